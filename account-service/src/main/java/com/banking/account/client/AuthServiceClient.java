@@ -1,13 +1,20 @@
 package com.banking.account.client;
 
 import com.banking.account.dto.UserKycDTO;
+import com.banking.security.revocation.RevocationDelta;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @FeignClient(name = "auth-service", url = "${auth.service.url:http://localhost:8083}")
 public interface AuthServiceClient {
 
     @GetMapping("/auth/api/auth/user/{userId}/kyc-status")
     UserKycDTO getUserKycStatus(@PathVariable("userId") Long userId);
+
+    @GetMapping("/auth/api/auth/revocations")
+    RevocationDelta getRevocations(@RequestParam("since") long since,
+            @RequestHeader("Authorization") String authorization);
 }
@@ -4,10 +4,19 @@ import com.banking.account.dto.CustomerStatusDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+import java.util.List;
 
 @FeignClient(name = "customer-service", url = "${auth.service.url:http://localhost:8083}")
 public interface CustomerServiceClient {
 
     @GetMapping("/auth/api/customers/user/{userId}")
     CustomerStatusDTO getCustomerByUserId(@PathVariable("userId") Long userId);
+
+    @PostMapping("/auth/api/customers/by-user-ids")
+    List<CustomerStatusDTO> getCustomersByUserIds(@RequestBody List<Long> userIds,
+            @RequestHeader("Authorization") String authorization);
 }
@@ -0,0 +1,48 @@
+package com.banking.account.cluster;
+
+import com.banking.security.routing.RendezvousHash;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This node's view of the account-service cluster. Ownership is computed with
+ * the same rendezvous hash transaction-service routes with, so both sides
+ * agree on which node serves an account as long as they are configured with
+ * the same node URLs.
+ */
+@Component
+public class ClusterTopology {
+
+    private final String localNode;
+    private final RendezvousHash ring;
+
+    public ClusterTopology(@Value("${account.cluster.node-url:http://127.0.0.1:${server.port:8081}}") String localNode,
+            @Value("${account.cluster.nodes:}") String nodes) {
+        this.localNode = normalize(localNode);
+        List<String> members = Arrays.stream(nodes.split(","))
+                .map(String::trim)
+                .filter(node -> !node.isEmpty())
+                .map(ClusterTopology::normalize)
+                .toList();
+        this.ring = new RendezvousHash(members.isEmpty() ? List.of(this.localNode) : members);
+    }
+
+    public String localNode() {
+        return localNode;
+    }
+
+    public List<String> nodes() {
+        return ring.nodes();
+    }
+
+    public String ownerOf(String accountNumber) {
+        return ring.owner(accountNumber);
+    }
+
+    private static String normalize(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
@@ -0,0 +1,51 @@
+package com.banking.account.config;
+
+import com.banking.security.internal.InternalTokens;
+import com.banking.security.jwt.HmacJwtVerifier;
+import com.banking.security.jwt.JwtVerifier;
+import com.banking.security.jwt.TokenRejections;
+import com.banking.security.revocation.RevocationList;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JwtVerifierConfig {
+
+    /**
+     * HS256 tokens from auth-service. The key and parser are built once here
+     * rather than per request.
+     */
+    @Bean
+    public JwtVerifier jwtVerifier(@Value("${jwt.secret}") String jwtSecret) {
+        return new JwtVerifier(new HmacJwtVerifier(jwtSecret));
+    }
+
+    /**
+     * Checks the per-call credentials transaction-service sends instead of
+     * forwarding user tokens; keyed from the shared jwt.secret.
+     */
+    @Bean
+    public InternalTokens internalTokens(@Value("${jwt.secret}") String jwtSecret,
+            @Value("${internal-token.ttl-seconds:30}") long ttlSeconds) {
+        return new InternalTokens(jwtSecret, ttlSeconds);
+    }
+
+    /**
+     * Tokens revoked at auth-service, kept current by RevocationSync.
+     */
+    @Bean
+    public RevocationList revocationList() {
+        return new RevocationList();
+    }
+
+    /**
+     * Rejected tokens by reason, exported as jwt.rejections{reason}.
+     */
+    @Bean
+    public TokenRejections tokenRejections(MeterRegistry meterRegistry,
+            @Value("${jwt.rejections.log-interval-ms:10000}") long logIntervalMs) {
+        return new TokenRejections(logIntervalMs).bindTo(meterRegistry);
+    }
+}
@@ -48,6 +48,8 @@ public class SecurityConfig {
                         .requestMatchers("/api/accounts/health").permitAll() // Allow health check
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll() // Swagger
                                                                                                               // UI
+                        .requestMatchers("/api/accounts/interest/accrual").hasRole("ADMIN")
+                        .requestMatchers("/api/accounts/import", "/api/accounts/import/**").hasRole("ADMIN")
                         .requestMatchers("/api/accounts/**").authenticated()
                         .anyRequest().permitAll());
 
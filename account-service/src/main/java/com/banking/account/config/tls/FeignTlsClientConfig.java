@@ -1,24 +1,31 @@
 package com.banking.account.config.tls;
 
-import feign.Client;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
-import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSessionContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
 
+/**
+ * TLS for outbound Feign calls. Only provides the SSLContext; the pooled
+ * client from banking-feign uses it when present. The client session
+ * cache lets new pooled connections to the same host resume a TLS session
+ * instead of doing a full handshake.
+ */
 @Configuration
 @ConditionalOnProperty(name = "tls.client.enabled", havingValue = "true")
 public class FeignTlsClientConfig {
 
     @Bean
-    public Client feignClient() throws Exception {
+    public SSLContext feignSslContext(
+            @Value("${tls.client.session-cache-size:1000}") int sessionCacheSize,
+            @Value("${tls.client.session-timeout-seconds:86400}") int sessionTimeoutSeconds) throws Exception {
         TrustManager[] trustAllCerts = new TrustManager[] {
                 new X509TrustManager() {
                     @Override
@@ -39,13 +46,9 @@ public class FeignTlsClientConfig {
         SSLContext sslContext = SSLContext.getInstance("TLS");
         sslContext.init(null, trustAllCerts, new SecureRandom());
 
-        HostnameVerifier hostnameVerifier = new HostnameVerifier() {
-            @Override
-            public boolean verify(String hostname, SSLSession session) {
-                return true;
-            }
-        };
-
-        return new Client.Default(sslContext.getSocketFactory(), hostnameVerifier);
+        SSLSessionContext sessions = sslContext.getClientSessionContext();
+        sessions.setSessionCacheSize(sessionCacheSize);
+        sessions.setSessionTimeout(sessionTimeoutSeconds);
+        return sslContext;
     }
 }
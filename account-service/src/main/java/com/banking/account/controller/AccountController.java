@@ -1,27 +1,36 @@
 package com.banking.account.controller;
 
+import com.banking.account.cluster.ClusterTopology;
 import com.banking.account.dto.AccountDTO;
+import com.banking.account.dto.AccountOwnershipDTO;
 import com.banking.account.dto.CreditRequestDTO;
 import com.banking.account.dto.DebitRequestDTO;
 import com.banking.account.dto.CreateAccountRequestDTO;
 import com.banking.account.exception.AccountNotFoundException;
 import com.banking.account.exception.AccountInactiveException;
 import com.banking.account.exception.InsufficientBalanceException;
+import com.banking.account.security.DebitVelocityLimiter;
 import com.banking.account.service.AccountService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.security.Principal;
 
 @RestController
 @RequestMapping("/api/accounts")
 public class AccountController {
 
     private final AccountService accountService;
+    private final DebitVelocityLimiter debitVelocityLimiter;
+    private final ClusterTopology clusterTopology;
 
-    public AccountController(AccountService accountService) {
+    public AccountController(AccountService accountService, DebitVelocityLimiter debitVelocityLimiter,
+            ClusterTopology clusterTopology) {
         this.accountService = accountService;
+        this.debitVelocityLimiter = debitVelocityLimiter;
+        this.clusterTopology = clusterTopology;
     }
 
     @GetMapping("/health")
@@ -35,10 +44,35 @@ public class AccountController {
         return ResponseEntity.ok(accountDTO);
     }
 
+    /**
+     * Which account-service node owns this account under sticky routing.
+     * Answered from the hash alone; the account does not need to exist.
+     */
+    @GetMapping("/{accountNumber}/owner")
+    public ResponseEntity<AccountOwnershipDTO> getOwner(@PathVariable String accountNumber) {
+        String owner = clusterTopology.ownerOf(accountNumber);
+        return ResponseEntity.ok(AccountOwnershipDTO.builder()
+                .accountNumber(accountNumber)
+                .ownerNode(owner)
+                .localNode(clusterTopology.localNode())
+                .owned(clusterTopology.localNode().equals(owner))
+                .nodes(clusterTopology.nodes())
+                .build());
+    }
+
     @PutMapping("/{accountNumber}/debit")
     public ResponseEntity<String> debitAccount(@PathVariable String accountNumber,
-            @Valid @RequestBody DebitRequestDTO debitRequest) {
-        accountService.debitAccount(accountNumber, debitRequest);
+            @Valid @RequestBody DebitRequestDTO debitRequest, Principal principal) {
+        // Velocity limits are enforced before the service opens a transaction;
+        // a debit that fails does not count against them.
+        DebitVelocityLimiter.Reservation reservation = debitVelocityLimiter.reserveDebit(accountNumber,
+                principal != null ? principal.getName() : null, debitRequest.getAmount());
+        try {
+            accountService.debitAccount(accountNumber, debitRequest);
+        } catch (RuntimeException ex) {
+            reservation.release();
+            throw ex;
+        }
         return ResponseEntity.ok("Debit successful");
     }
 
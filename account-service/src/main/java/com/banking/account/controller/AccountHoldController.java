@@ -0,0 +1,59 @@
+package com.banking.account.controller;
+
+import com.banking.account.dto.HoldDTO;
+import com.banking.account.dto.HoldRequestDTO;
+import com.banking.account.security.DebitVelocityLimiter;
+import com.banking.account.service.AccountHoldService;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+
+@RestController
+@RequestMapping("/api/accounts/{accountNumber}/holds")
+public class AccountHoldController {
+
+    private final AccountHoldService accountHoldService;
+    private final DebitVelocityLimiter debitVelocityLimiter;
+
+    public AccountHoldController(AccountHoldService accountHoldService, DebitVelocityLimiter debitVelocityLimiter) {
+        this.accountHoldService = accountHoldService;
+        this.debitVelocityLimiter = debitVelocityLimiter;
+    }
+
+    /**
+     * Reserves funds against the available balance. The hold expires on its
+     * own unless it is committed or released first.
+     */
+    @PostMapping
+    public ResponseEntity<HoldDTO> placeHold(@PathVariable String accountNumber,
+            @Valid @RequestBody HoldRequestDTO holdRequest, Principal principal) {
+        // A hold is a pending debit, so it counts against the same velocity limits.
+        DebitVelocityLimiter.Reservation reservation = debitVelocityLimiter.reserveDebit(accountNumber,
+                principal != null ? principal.getName() : null, holdRequest.getAmount());
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(accountHoldService.placeHold(accountNumber, holdRequest));
+        } catch (RuntimeException ex) {
+            reservation.release();
+            throw ex;
+        }
+    }
+
+    @GetMapping("/{holdId}")
+    public ResponseEntity<HoldDTO> getHold(@PathVariable String accountNumber, @PathVariable String holdId) {
+        return ResponseEntity.ok(accountHoldService.getHold(accountNumber, holdId));
+    }
+
+    @PostMapping("/{holdId}/commit")
+    public ResponseEntity<HoldDTO> commitHold(@PathVariable String accountNumber, @PathVariable String holdId) {
+        return ResponseEntity.ok(accountHoldService.commitHold(accountNumber, holdId));
+    }
+
+    @PostMapping("/{holdId}/release")
+    public ResponseEntity<HoldDTO> releaseHold(@PathVariable String accountNumber, @PathVariable String holdId) {
+        return ResponseEntity.ok(accountHoldService.releaseHold(accountNumber, holdId));
+    }
+}
@@ -0,0 +1,42 @@
+package com.banking.account.controller;
+
+import com.banking.account.dto.AccountImportStatusDTO;
+import com.banking.account.service.AccountImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * Bulk account import for legacy core migration.
+ * Accepts NDJSON (one account per line), processes it asynchronously in
+ * chunks and reports progress per job. ADMIN only (see SecurityConfig).
+ */
+@RestController
+@RequestMapping("/api/accounts/import")
+public class AccountImportController {
+
+    private final AccountImportService accountImportService;
+
+    public AccountImportController(AccountImportService accountImportService) {
+        this.accountImportService = accountImportService;
+    }
+
+    @PostMapping(consumes = { "application/x-ndjson", "text/plain" })
+    public ResponseEntity<AccountImportStatusDTO> startImport(HttpServletRequest request) throws IOException {
+        AccountImportStatusDTO status = accountImportService.startImport(request.getInputStream());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(status);
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<AccountImportStatusDTO> getImportStatus(@PathVariable String jobId) {
+        return ResponseEntity.ok(accountImportService.getImportStatus(jobId));
+    }
+
+    @PostMapping("/{jobId}/resume")
+    public ResponseEntity<AccountImportStatusDTO> resumeImport(@PathVariable String jobId) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(accountImportService.resumeImport(jobId));
+    }
+}
@@ -0,0 +1,33 @@
+package com.banking.account.controller;
+
+import com.banking.account.dto.InterestAccrualSummaryDTO;
+import com.banking.account.service.InterestAccrualService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/accounts/interest")
+public class InterestAccrualController {
+
+    private final InterestAccrualService interestAccrualService;
+
+    public InterestAccrualController(InterestAccrualService interestAccrualService) {
+        this.interestAccrualService = interestAccrualService;
+    }
+
+    /**
+     * Runs (or resumes) the SAVINGS interest accrual for a business date.
+     * Defaults to yesterday, matching the scheduled end-of-day run. ADMIN
+     * only; the date must have ended and be the last closed business day
+     * or the day after it.
+     */
+    @PostMapping("/accrual")
+    public ResponseEntity<InterestAccrualSummaryDTO> runAccrual(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate) {
+        LocalDate date = businessDate != null ? businessDate : LocalDate.now().minusDays(1);
+        return ResponseEntity.ok(interestAccrualService.runAccrual(date));
+    }
+}
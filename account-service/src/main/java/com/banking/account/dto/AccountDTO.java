@@ -19,6 +19,8 @@ public class AccountDTO {
     private String customerCif; // Customer Information File number
     private Long userId;
     private BigDecimal balance;
+    private BigDecimal heldAmount;
+    private BigDecimal availableBalance;
     private String status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
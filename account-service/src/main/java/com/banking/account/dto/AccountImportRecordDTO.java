@@ -0,0 +1,23 @@
+package com.banking.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * One line of an NDJSON bulk import file.
+ * accountNumber is optional - legacy numbers are kept when supplied,
+ * otherwise one is generated the same way as createAccount does.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountImportRecordDTO {
+    private Long userId;
+    private String accountNumber;
+    private String accountName;
+    private String accountType;
+    private BigDecimal balance;
+}
@@ -0,0 +1,24 @@
+package com.banking.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountImportStatusDTO {
+    private String jobId;
+    private String status;
+    private long processedLines;
+    private long committedChunks;
+    private long importedCount;
+    private long skippedCount;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,20 @@
+package com.banking.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountOwnershipDTO {
+    private String accountNumber;
+    private String ownerNode;
+    private String localNode;
+    private boolean owned; // true when this node is the owner
+    private List<String> nodes;
+}
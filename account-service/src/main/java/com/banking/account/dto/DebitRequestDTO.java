@@ -1,5 +1,6 @@
 package com.banking.account.dto;
 
+import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -13,6 +14,7 @@ public class DebitRequestDTO {
 
     @NotNull(message = "Amount is required")
     @DecimalMin(value = "0.01", message = "Amount must be greater than zero")
+    @DecimalMax(value = "999999999999999.99", message = "Amount is too large")
     private BigDecimal amount;
 
     @NotBlank(message = "Description is required")
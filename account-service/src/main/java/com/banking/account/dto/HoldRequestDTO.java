@@ -0,0 +1,27 @@
+package com.banking.account.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HoldRequestDTO {
+
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.01", message = "Amount must be greater than zero")
+    @DecimalMax(value = "999999999999999.99", message = "Amount is too large")
+    private BigDecimal amount;
+
+    private String description;
+
+    @Positive(message = "TTL must be positive")
+    private Long ttlSeconds; // Optional; defaults to account.holds.default-ttl-seconds
+}
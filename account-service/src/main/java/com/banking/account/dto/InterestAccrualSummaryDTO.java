@@ -0,0 +1,22 @@
+package com.banking.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterestAccrualSummaryDTO {
+    private LocalDate businessDate;
+    private int partitions;
+    private int partitionsResumed;
+    private long accountsCredited;
+    private BigDecimal totalInterest;
+    private long durationMs;
+}
@@ -35,7 +35,11 @@ public class Account {
     private Long userId; // For convenience, but CIF is the primary reference
 
     @Column(name = "balance", nullable = false)
-    private BigDecimal balance;
+    private BigDecimal balance; // Ledger balance
+
+    @Builder.Default
+    @Column(name = "held_amount", nullable = false)
+    private BigDecimal heldAmount = BigDecimal.ZERO; // Sum of open (RESERVED) holds
 
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
@@ -58,4 +62,12 @@ public class Account {
         updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Funds that can still be debited or reserved: ledger balance minus open holds.
+     */
+    public BigDecimal getAvailableBalance() {
+        BigDecimal held = heldAmount == null ? BigDecimal.ZERO : heldAmount;
+        return balance.subtract(held);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.banking.account.entity;
+
+public enum HoldStatus {
+    RESERVED,
+    COMMITTED,
+    RELEASED,
+    EXPIRED
+}
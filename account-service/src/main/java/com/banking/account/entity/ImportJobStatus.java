@@ -0,0 +1,7 @@
+package com.banking.account.entity;
+
+public enum ImportJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,58 @@
+package com.banking.account.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Restart checkpoint for one id-range partition of an interest accrual run.
+ * Advanced in the same transaction as the balance updates of each page.
+ */
+@Entity
+@Table(name = "interest_accrual_checkpoints", uniqueConstraints = {
+        @UniqueConstraint(columnNames = { "business_date", "range_start" })
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InterestAccrualCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "business_date", nullable = false)
+    private LocalDate businessDate;
+
+    @Column(name = "range_start", nullable = false)
+    private long rangeStart;
+
+    @Column(name = "range_end", nullable = false)
+    private long rangeEnd;
+
+    @Column(name = "last_processed_id", nullable = false)
+    private long lastProcessedId;
+
+    @Column(name = "completed", nullable = false)
+    private boolean completed;
+
+    @Column(name = "accounts_credited", nullable = false)
+    private long accountsCredited;
+
+    @Column(name = "total_interest", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalInterest;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
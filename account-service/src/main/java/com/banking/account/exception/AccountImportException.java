@@ -0,0 +1,11 @@
+package com.banking.account.exception;
+
+public class AccountImportException extends RuntimeException {
+    public AccountImportException(String message) {
+        super(message);
+    }
+
+    public AccountImportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
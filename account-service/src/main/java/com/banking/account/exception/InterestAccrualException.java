@@ -0,0 +1,11 @@
+package com.banking.account.exception;
+
+public class InterestAccrualException extends RuntimeException {
+    public InterestAccrualException(String message) {
+        super(message);
+    }
+
+    public InterestAccrualException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,18 @@
+package com.banking.account.repository;
+
+import com.banking.account.entity.AccountHold;
+import com.banking.account.entity.HoldStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AccountHoldRepository extends JpaRepository<AccountHold, Long> {
+    Optional<AccountHold> findByHoldId(String holdId);
+
+    Optional<AccountHold> findByHoldIdAndAccountNumber(String holdId, String accountNumber);
+
+    List<AccountHold> findByStatus(HoldStatus status);
+}
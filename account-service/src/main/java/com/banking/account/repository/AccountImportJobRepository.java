@@ -0,0 +1,9 @@
+package com.banking.account.repository;
+
+import com.banking.account.entity.AccountImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AccountImportJobRepository extends JpaRepository<AccountImportJob, String> {
+}
@@ -0,0 +1,19 @@
+package com.banking.account.repository;
+
+import com.banking.account.entity.InterestAccrualCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface InterestAccrualCheckpointRepository extends JpaRepository<InterestAccrualCheckpoint, Long> {
+    Optional<InterestAccrualCheckpoint> findByBusinessDateAndRangeStart(LocalDate businessDate, long rangeStart);
+
+    /** Latest business date whose partitions have all completed. */
+    @Query("select max(c.businessDate) from InterestAccrualCheckpoint c where not exists "
+            + "(select o from InterestAccrualCheckpoint o where o.businessDate = c.businessDate and o.completed = false)")
+    Optional<LocalDate> findLastClosedBusinessDate();
+}
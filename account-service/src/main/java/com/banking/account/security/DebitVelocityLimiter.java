@@ -0,0 +1,158 @@
+package com.banking.account.security;
+
+import com.banking.account.exception.VelocityLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory per-account and per-user debit velocity limits (count and amount
+ * per sliding window). Budget is reserved at the controller, before any
+ * transaction is opened, so a flood of debits against one account or from one
+ * token is rejected without touching MySQL; a debit that then fails gives its
+ * reservation back, so failing requests cannot use up an account's budget.
+ *
+ * Counters are per instance; with several account-service nodes the limits
+ * hold per node, which is why account routing is sticky.
+ */
+@Component
+public class DebitVelocityLimiter {
+
+    private final boolean enabled;
+    private final long windowMillis;
+    private final int buckets;
+    private final long accountMaxCount;
+    private final long accountMaxAmount;
+    private final long userMaxCount;
+    private final long userMaxAmount;
+
+    private final Map<String, SlidingWindowCounter> accountCounters = new ConcurrentHashMap<>();
+    private final Map<String, SlidingWindowCounter> userCounters = new ConcurrentHashMap<>();
+
+    private final Counter allowed;
+    private final Counter rejectedAccountCount;
+    private final Counter rejectedAccountAmount;
+    private final Counter rejectedUserCount;
+    private final Counter rejectedUserAmount;
+
+    public DebitVelocityLimiter(MeterRegistry meterRegistry,
+            @Value("${account.velocity.enabled:true}") boolean enabled,
+            @Value("${account.velocity.window:PT1H}") Duration window,
+            @Value("${account.velocity.buckets:60}") int buckets,
+            @Value("${account.velocity.account.max-count:20}") long accountMaxCount,
+            @Value("${account.velocity.account.max-amount:10000}") BigDecimal accountMaxAmount,
+            @Value("${account.velocity.user.max-count:50}") long userMaxCount,
+            @Value("${account.velocity.user.max-amount:25000}") BigDecimal userMaxAmount) {
+        this.enabled = enabled;
+        this.windowMillis = window.toMillis();
+        this.buckets = Math.max(1, buckets);
+        this.accountMaxCount = accountMaxCount;
+        this.accountMaxAmount = toMinorUnits(accountMaxAmount);
+        this.userMaxCount = userMaxCount;
+        this.userMaxAmount = toMinorUnits(userMaxAmount);
+
+        this.allowed = meterRegistry.counter("account.velocity.allowed");
+        this.rejectedAccountCount = rejection(meterRegistry, "account", "count");
+        this.rejectedAccountAmount = rejection(meterRegistry, "account", "amount");
+        this.rejectedUserCount = rejection(meterRegistry, "user", "count");
+        this.rejectedUserAmount = rejection(meterRegistry, "user", "amount");
+        Gauge.builder("account.velocity.tracked", accountCounters, Map::size).tag("scope", "account")
+                .register(meterRegistry);
+        Gauge.builder("account.velocity.tracked", userCounters, Map::size).tag("scope", "user")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Budget taken by {@link #reserveDebit}. Release it if the debit does not
+     * go through.
+     */
+    public interface Reservation {
+
+        Reservation NONE = () -> {
+        };
+
+        void release();
+    }
+
+    /**
+     * Reserves budget for a debit (or hold), or throws if either the account or
+     * the user would exceed its limits. The caller releases the reservation
+     * when the debit fails, so only debits that commit count.
+     */
+    public Reservation reserveDebit(String accountNumber, String username, BigDecimal amount) {
+        if (!enabled) {
+            return Reservation.NONE;
+        }
+        long now = System.currentTimeMillis();
+        long minor = toMinorUnits(amount);
+
+        SlidingWindowCounter account = accountCounters.computeIfAbsent(accountNumber, k -> newCounter());
+        SlidingWindowCounter.Outcome outcome = account.tryAcquire(now, minor, accountMaxCount, accountMaxAmount);
+        if (outcome != SlidingWindowCounter.Outcome.ACQUIRED) {
+            reject(outcome, rejectedAccountCount, rejectedAccountAmount);
+            throw new VelocityLimitExceededException("Debit velocity limit exceeded for account " + accountNumber);
+        }
+
+        SlidingWindowCounter user = null;
+        if (username != null) {
+            user = userCounters.computeIfAbsent(username, k -> newCounter());
+            outcome = user.tryAcquire(now, minor, userMaxCount, userMaxAmount);
+            if (outcome != SlidingWindowCounter.Outcome.ACQUIRED) {
+                account.release(now, minor);
+                reject(outcome, rejectedUserCount, rejectedUserAmount);
+                throw new VelocityLimitExceededException("Debit velocity limit exceeded for user " + username);
+            }
+        }
+        allowed.increment();
+
+        SlidingWindowCounter reservedUser = user;
+        return () -> {
+            account.release(now, minor);
+            if (reservedUser != null) {
+                reservedUser.release(now, minor);
+            }
+        };
+    }
+
+    /**
+     * Drops counters with nothing left in their window. A debit racing with the
+     * eviction of its (idle) counter is at worst counted in a discarded counter.
+     */
+    @Scheduled(fixedDelayString = "${account.velocity.sweep-interval-ms:60000}")
+    public void evictIdleCounters() {
+        long now = System.currentTimeMillis();
+        accountCounters.entrySet().removeIf(e -> e.getValue().isIdle(now));
+        userCounters.entrySet().removeIf(e -> e.getValue().isIdle(now));
+    }
+
+    private void reject(SlidingWindowCounter.Outcome outcome, Counter countRejections, Counter amountRejections) {
+        (outcome == SlidingWindowCounter.Outcome.COUNT_EXCEEDED ? countRejections : amountRejections).increment();
+    }
+
+    private SlidingWindowCounter newCounter() {
+        return new SlidingWindowCounter(windowMillis, buckets);
+    }
+
+    private static Counter rejection(MeterRegistry registry, String scope, String limit) {
+        return Counter.builder("account.velocity.rejected")
+                .tag("scope", scope)
+                .tag("limit", limit)
+                .register(registry);
+    }
+
+    /** Saturates at Long.MAX_VALUE, which any amount limit rejects. */
+    private static long toMinorUnits(BigDecimal amount) {
+        BigInteger minor = amount.setScale(2, RoundingMode.UP).unscaledValue();
+        return minor.bitLength() < Long.SIZE ? minor.longValue() : Long.MAX_VALUE;
+    }
+}
@@ -1,11 +1,18 @@
 package com.banking.account.security;
 
+import com.banking.security.internal.InternalTokens;
+import com.banking.security.jwt.JwtVerifier;
+import com.banking.security.jwt.TokenRejections;
+import com.banking.security.jwt.TokenVerificationException;
+import com.banking.security.jwt.VerifiedToken;
+import com.banking.security.revocation.RevocationList;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -13,29 +20,62 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * Authenticates user bearer tokens, and the internal tokens other services
+ * mint per call ({@code Authorization: Internal ...}), which cost one HMAC
+ * instead of a user token verification.
+ */
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider tokenProvider;
+    private static final String INTERNAL_SCHEME = "Internal ";
+
+    private final JwtVerifier jwtVerifier;
+    private final InternalTokens internalTokens;
+    private final String internalTokenAudience;
+    private final RevocationList revocationList;
+    private final TokenRejections tokenRejections;
+
+    public JwtAuthenticationFilter(JwtVerifier jwtVerifier, InternalTokens internalTokens,
+            @Value("${internal-token.audience:account-service}") String internalTokenAudience,
+            RevocationList revocationList, TokenRejections tokenRejections) {
+        this.jwtVerifier = jwtVerifier;
+        this.internalTokens = internalTokens;
+        this.internalTokenAudience = internalTokenAudience;
+        this.revocationList = revocationList;
+        this.tokenRejections = tokenRejections;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         try {
             String jwt = getJwtFromRequest(request);
+            String internalToken = getInternalTokenFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
+            if (internalToken != null || StringUtils.hasText(jwt)) {
+                VerifiedToken token = internalToken != null
+                        ? internalTokens.verify(internalToken, internalTokenAudience)
+                        : jwtVerifier.verify(jwt);
 
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        username, null, new ArrayList<>());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                if (revocationList.isRevoked(token)) {
+                    tokenRejections.logRejected(logger, TokenVerificationException.Reason.REVOKED,
+                            "token of user " + token.subject() + " is revoked");
+                } else {
+                    List<SimpleGrantedAuthority> authorities = token.role() != null
+                            ? List.of(new SimpleGrantedAuthority("ROLE_" + token.role()))
+                            : List.of();
+                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                            token.subject(), null, authorities);
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
+        } catch (TokenVerificationException ex) {
+            tokenRejections.logRejected(logger, ex.getReason(), ex.getMessage());
         } catch (Exception ex) {
             logger.error("Could not set user authentication in security context", ex);
         }
@@ -43,6 +83,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private String getInternalTokenFromRequest(HttpServletRequest request) {
+        String authorization = request.getHeader("Authorization");
+        if (StringUtils.hasText(authorization) && authorization.startsWith(INTERNAL_SCHEME)) {
+            return authorization.substring(INTERNAL_SCHEME.length()).trim();
+        }
+        return null;
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -0,0 +1,49 @@
+package com.banking.account.security;
+
+import com.banking.account.client.AuthServiceClient;
+import com.banking.security.internal.InternalTokens;
+import com.banking.security.revocation.RevocationList;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the local {@link RevocationList} in step with auth-service by
+ * polling its revocation log from the last seen cursor. If auth-service is
+ * unreachable the last known list stays in force. Each poll authenticates
+ * with an internal token minted for this service (role SERVICE).
+ */
+@Slf4j
+@Component
+public class RevocationSync {
+
+    private static final String AUTH_SERVICE_AUDIENCE = "auth-service";
+
+    private final RevocationList revocationList;
+    private final AuthServiceClient authServiceClient;
+    private final InternalTokens internalTokens;
+    private final String serviceName;
+
+    public RevocationSync(RevocationList revocationList, AuthServiceClient authServiceClient,
+            InternalTokens internalTokens,
+            @Value("${spring.application.name:account-service}") String serviceName) {
+        this.revocationList = revocationList;
+        this.authServiceClient = authServiceClient;
+        this.internalTokens = internalTokens;
+        this.serviceName = serviceName;
+    }
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${auth.revocations.refresh-interval-ms:5000}",
+            initialDelayString = "${auth.revocations.refresh-interval-ms:5000}")
+    public void refresh() {
+        try {
+            String authorization = "Internal " + internalTokens.mintForService(serviceName, AUTH_SERVICE_AUDIENCE);
+            revocationList.pull(since -> authServiceClient.getRevocations(since, authorization));
+        } catch (Exception e) {
+            log.warn("Could not refresh token revocations from auth-service: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.banking.account.security;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free sliding-window counter of debit count and amount (in minor units).
+ *
+ * The window is split into a ring of buckets. Each slot holds an immutable
+ * {@link Bucket} stamped with the epoch (bucket number since 1970) it belongs
+ * to, so a slot from an earlier lap is simply treated as empty. Only the
+ * current bucket ever changes inside a window; {@link #tryAcquire} sums the
+ * other buckets and then CASes the current one, so the limit check and the
+ * increment are atomic with respect to other callers on the same counter.
+ */
+final class SlidingWindowCounter {
+
+    enum Outcome {
+        ACQUIRED,
+        COUNT_EXCEEDED,
+        AMOUNT_EXCEEDED
+    }
+
+    private record Bucket(long epoch, long count, long amount) {
+    }
+
+    private static final Bucket EMPTY = new Bucket(-1, 0, 0);
+
+    private final long bucketMillis;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    /** Epoch of the most recent acquire, used to evict idle counters. */
+    private volatile long lastEpoch;
+
+    SlidingWindowCounter(long windowMillis, int bucketCount) {
+        this.bucketMillis = Math.max(1, windowMillis / bucketCount);
+        this.buckets = new AtomicReferenceArray<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.set(i, EMPTY);
+        }
+    }
+
+    /**
+     * Records one debit of {@code amount} if the window stays within both
+     * limits afterwards. A limit of zero or less disables that dimension.
+     */
+    Outcome tryAcquire(long nowMillis, long amount, long maxCount, long maxAmount) {
+        long epoch = nowMillis / bucketMillis;
+        int slot = slot(epoch);
+        while (true) {
+            long count = 0;
+            long total = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                if (i == slot) {
+                    continue;
+                }
+                Bucket b = buckets.get(i);
+                if (epoch - b.epoch() < buckets.length()) {
+                    count += b.count();
+                    total += b.amount();
+                }
+            }
+
+            Bucket current = buckets.get(slot);
+            long currentCount = current.epoch() == epoch ? current.count() : 0;
+            long currentAmount = current.epoch() == epoch ? current.amount() : 0;
+            if (maxCount > 0 && count + currentCount + 1 > maxCount) {
+                return Outcome.COUNT_EXCEEDED;
+            }
+            if (maxAmount > 0 && total + currentAmount + amount > maxAmount) {
+                return Outcome.AMOUNT_EXCEEDED;
+            }
+            if (buckets.compareAndSet(slot, current, new Bucket(epoch, currentCount + 1, currentAmount + amount))) {
+                lastEpoch = epoch;
+                return Outcome.ACQUIRED;
+            }
+        }
+    }
+
+    /**
+     * Undoes a successful {@link #tryAcquire} made at {@code acquiredAtMillis},
+     * e.g. when a second limit rejected the same debit. No-op once the bucket
+     * has rolled over.
+     */
+    void release(long acquiredAtMillis, long amount) {
+        long epoch = acquiredAtMillis / bucketMillis;
+        int slot = slot(epoch);
+        while (true) {
+            Bucket current = buckets.get(slot);
+            if (current.epoch() != epoch) {
+                return;
+            }
+            Bucket updated = new Bucket(epoch, Math.max(0, current.count() - 1), Math.max(0, current.amount() - amount));
+            if (buckets.compareAndSet(slot, current, updated)) {
+                return;
+            }
+        }
+    }
+
+    boolean isIdle(long nowMillis) {
+        return nowMillis / bucketMillis - lastEpoch >= buckets.length();
+    }
+
+    private int slot(long epoch) {
+        return (int) (epoch % buckets.length());
+    }
+}
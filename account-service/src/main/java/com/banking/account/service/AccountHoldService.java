@@ -0,0 +1,14 @@
+package com.banking.account.service;
+
+import com.banking.account.dto.HoldDTO;
+import com.banking.account.dto.HoldRequestDTO;
+
+public interface AccountHoldService {
+    HoldDTO placeHold(String accountNumber, HoldRequestDTO holdRequest);
+
+    HoldDTO getHold(String accountNumber, String holdId);
+
+    HoldDTO commitHold(String accountNumber, String holdId);
+
+    HoldDTO releaseHold(String accountNumber, String holdId);
+}
@@ -0,0 +1,255 @@
+package com.banking.account.service;
+
+import com.banking.account.dto.HoldDTO;
+import com.banking.account.dto.HoldRequestDTO;
+import com.banking.account.entity.Account;
+import com.banking.account.entity.AccountHold;
+import com.banking.account.entity.AccountStatus;
+import com.banking.account.entity.HoldStatus;
+import com.banking.account.exception.AccountInactiveException;
+import com.banking.account.exception.AccountNotFoundException;
+import com.banking.account.exception.HoldNotFoundException;
+import com.banking.account.exception.HoldStateException;
+import com.banking.account.exception.InsufficientBalanceException;
+import com.banking.account.repository.AccountHoldRepository;
+import com.banking.account.repository.AccountRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Two-phase holds: reserve against the available balance, then commit (debit
+ * the ledger balance) or release. Every transition locks the account row
+ * first, so holds, direct debits and expiry on the same account serialize on
+ * one lock and the held amount can never drift from the open holds.
+ *
+ * Open holds are tracked in a {@link HoldExpiryWheel}; expired holds are
+ * released on a separate thread so the wheel never blocks on the database.
+ * A hold joins the wheel only once its reserve has committed, and an expiry
+ * that fails (database unavailable, lock timeout) is put back on the wheel
+ * with exponential backoff until it succeeds.
+ */
+@Slf4j
+@Service
+@Transactional
+public class AccountHoldServiceImpl implements AccountHoldService {
+
+    private final AccountRepository accountRepository;
+    private final AccountHoldRepository accountHoldRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long defaultTtlSeconds;
+    private final long maxTtlSeconds;
+    private final long expiryRetryInitialMillis;
+    private final long expiryRetryMaxMillis;
+    private final HoldExpiryWheel expiryWheel;
+    /** Failed expiry attempts per hold, for the retry backoff. */
+    private final Map<String, Integer> expiryFailures = new ConcurrentHashMap<>();
+    private final ExecutorService expiryExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "hold-expiry");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public AccountHoldServiceImpl(AccountRepository accountRepository,
+            AccountHoldRepository accountHoldRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${account.holds.default-ttl-seconds:900}") long defaultTtlSeconds,
+            @Value("${account.holds.max-ttl-seconds:604800}") long maxTtlSeconds,
+            @Value("${account.holds.wheel-tick-ms:1000}") long wheelTickMillis,
+            @Value("${account.holds.wheel-size:512}") int wheelSize,
+            @Value("${account.holds.expiry-retry-initial-ms:1000}") long expiryRetryInitialMillis,
+            @Value("${account.holds.expiry-retry-max-ms:60000}") long expiryRetryMaxMillis) {
+        this.accountRepository = accountRepository;
+        this.accountHoldRepository = accountHoldRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.defaultTtlSeconds = defaultTtlSeconds;
+        this.maxTtlSeconds = maxTtlSeconds;
+        this.expiryRetryInitialMillis = expiryRetryInitialMillis;
+        this.expiryRetryMaxMillis = expiryRetryMaxMillis;
+        this.expiryWheel = new HoldExpiryWheel(wheelTickMillis, wheelSize,
+                holdId -> expiryExecutor.execute(() -> expireOrRetry(holdId)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startExpiryWheel() {
+        expiryWheel.start();
+        // Re-arm holds left open by a previous run; overdue ones fire on the first tick.
+        List<AccountHold> open = accountHoldRepository.findByStatus(HoldStatus.RESERVED);
+        open.forEach(hold -> expiryWheel.schedule(hold.getHoldId(), toEpochMillis(hold.getExpiresAt())));
+        if (!open.isEmpty()) {
+            log.info("Re-armed expiry for {} open holds", open.size());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        expiryWheel.stop();
+        expiryExecutor.shutdown();
+    }
+
+    @Override
+    public HoldDTO placeHold(String accountNumber, HoldRequestDTO holdRequest) {
+        long ttl = holdRequest.getTtlSeconds() != null ? holdRequest.getTtlSeconds() : defaultTtlSeconds;
+        if (ttl > maxTtlSeconds) {
+            throw new HoldStateException("Hold TTL cannot exceed " + maxTtlSeconds + " seconds");
+        }
+
+        Account account = lockAccount(accountNumber);
+        if (account.getStatus() != AccountStatus.ACTIVE) {
+            throw new AccountInactiveException("Account is not active");
+        }
+        if (account.getAvailableBalance().compareTo(holdRequest.getAmount()) < 0) {
+            throw new InsufficientBalanceException("Insufficient available balance");
+        }
+
+        account.setHeldAmount(account.getHeldAmount().add(holdRequest.getAmount()));
+        accountRepository.save(account);
+
+        AccountHold hold = AccountHold.builder()
+                .holdId("HLD" + UUID.randomUUID().toString().replace("-", "").substring(0, 16).toUpperCase())
+                .accountNumber(accountNumber)
+                .amount(holdRequest.getAmount())
+                .description(holdRequest.getDescription())
+                .status(HoldStatus.RESERVED)
+                .expiresAt(LocalDateTime.now().plusSeconds(ttl))
+                .build();
+        hold = accountHoldRepository.save(hold);
+
+        scheduleExpiryAfterCommit(hold.getHoldId(), toEpochMillis(hold.getExpiresAt()));
+        return mapToDTO(hold);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public HoldDTO getHold(String accountNumber, String holdId) {
+        return mapToDTO(findHold(accountNumber, holdId));
+    }
+
+    @Override
+    @Transactional(noRollbackFor = HoldStateException.class)
+    public HoldDTO commitHold(String accountNumber, String holdId) {
+        Account account = lockAccount(accountNumber);
+        AccountHold hold = requireReserved(findHold(accountNumber, holdId));
+        if (!hold.getExpiresAt().isAfter(LocalDateTime.now())) {
+            // The wheel has not caught up yet; treat the hold as expired rather than debiting late.
+            closeHold(account, hold, HoldStatus.EXPIRED);
+            throw new HoldStateException("Hold has expired: " + holdId);
+        }
+
+        account.setBalance(account.getBalance().subtract(hold.getAmount()));
+        closeHold(account, hold, HoldStatus.COMMITTED);
+        return mapToDTO(hold);
+    }
+
+    @Override
+    public HoldDTO releaseHold(String accountNumber, String holdId) {
+        Account account = lockAccount(accountNumber);
+        AccountHold hold = requireReserved(findHold(accountNumber, holdId));
+        closeHold(account, hold, HoldStatus.RELEASED);
+        return mapToDTO(hold);
+    }
+
+    /**
+     * Arms the expiry once the reserve is durable, so a rollback leaves
+     * nothing on the wheel and the expiry never races the reserve's commit.
+     */
+    private void scheduleExpiryAfterCommit(String holdId, long deadlineMillis) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            expiryWheel.schedule(holdId, deadlineMillis);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                expiryWheel.schedule(holdId, deadlineMillis);
+            }
+        });
+    }
+
+    private void expireOrRetry(String holdId) {
+        try {
+            expireHold(holdId);
+            expiryFailures.remove(holdId);
+        } catch (RuntimeException e) {
+            int failures = expiryFailures.merge(holdId, 1, Integer::sum);
+            long delay = Math.min(expiryRetryInitialMillis << Math.min(failures - 1, 20), expiryRetryMaxMillis);
+            log.warn("Expiring hold {} failed (attempt {}), retrying in {} ms", holdId, failures, delay, e);
+            expiryWheel.schedule(holdId, System.currentTimeMillis() + delay);
+        }
+    }
+
+    private void expireHold(String holdId) {
+        String accountNumber = accountHoldRepository.findByHoldId(holdId)
+                .filter(hold -> hold.getStatus() == HoldStatus.RESERVED)
+                .map(AccountHold::getAccountNumber)
+                .orElse(null);
+        if (accountNumber == null) {
+            return; // Already committed or released
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            Account account = lockAccount(accountNumber);
+            // Re-read under the account lock: a concurrent commit/release may have won.
+            accountHoldRepository.findByHoldId(holdId)
+                    .filter(hold -> hold.getStatus() == HoldStatus.RESERVED)
+                    .ifPresent(hold -> closeHold(account, hold, HoldStatus.EXPIRED));
+        });
+    }
+
+    private void closeHold(Account account, AccountHold hold, HoldStatus finalStatus) {
+        account.setHeldAmount(account.getHeldAmount().subtract(hold.getAmount()));
+        accountRepository.save(account);
+        hold.setStatus(finalStatus);
+        accountHoldRepository.save(hold);
+    }
+
+    private Account lockAccount(String accountNumber) {
+        return accountRepository.findByAccountNumberForUpdate(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException("Account not found: " + accountNumber));
+    }
+
+    private AccountHold findHold(String accountNumber, String holdId) {
+        return accountHoldRepository.findByHoldIdAndAccountNumber(holdId, accountNumber)
+                .orElseThrow(() -> new HoldNotFoundException("Hold not found: " + holdId));
+    }
+
+    private AccountHold requireReserved(AccountHold hold) {
+        if (hold.getStatus() != HoldStatus.RESERVED) {
+            throw new HoldStateException("Hold " + hold.getHoldId() + " is already " + hold.getStatus());
+        }
+        return hold;
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private HoldDTO mapToDTO(AccountHold hold) {
+        return HoldDTO.builder()
+                .holdId(hold.getHoldId())
+                .accountNumber(hold.getAccountNumber())
+                .amount(hold.getAmount())
+                .description(hold.getDescription())
+                .status(hold.getStatus().toString())
+                .expiresAt(hold.getExpiresAt())
+                .createdAt(hold.getCreatedAt())
+                .updatedAt(hold.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.banking.account.service;
+
+import com.banking.account.dto.AccountImportStatusDTO;
+
+import java.io.InputStream;
+
+public interface AccountImportService {
+    AccountImportStatusDTO startImport(InputStream ndjson);
+
+    AccountImportStatusDTO resumeImport(String jobId);
+
+    AccountImportStatusDTO getImportStatus(String jobId);
+}
@@ -0,0 +1,415 @@
+package com.banking.account.service;
+
+import com.banking.account.client.CustomerServiceClient;
+import com.banking.account.dto.AccountImportRecordDTO;
+import com.banking.account.dto.AccountImportStatusDTO;
+import com.banking.account.dto.CustomerStatusDTO;
+import com.banking.account.entity.AccountImportJob;
+import com.banking.account.entity.AccountStatus;
+import com.banking.account.entity.ImportJobStatus;
+import com.banking.account.exception.AccountImportException;
+import com.banking.account.exception.ImportJobNotFoundException;
+import com.banking.account.repository.AccountImportJobRepository;
+import com.banking.security.internal.InternalTokens;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Bulk account import for legacy core migration.
+ *
+ * The NDJSON upload is spooled to disk and processed on a background thread in
+ * fixed-size chunks. Each chunk resolves its customers with one batched call to
+ * auth-service and inserts its accounts with a single JDBC batch statement; the
+ * job progress row is updated in the same transaction, so a failed or
+ * interrupted job resumes exactly at the first uncommitted chunk.
+ *
+ * Account numbers are checked against the table with one IN query per chunk
+ * before the insert: a supplied number that already exists (or repeats within
+ * the chunk) is skipped, and a generated one that collides is drawn again.
+ * The insert itself is a plain INSERT, so a row taken by a concurrent writer
+ * in between fails the chunk instead of being dropped silently.
+ */
+@Slf4j
+@Service
+public class AccountImportServiceImpl implements AccountImportService {
+
+    private static final String INSERT_ACCOUNT_SQL = "INSERT INTO accounts "
+            + "(account_number, account_name, account_type, customer_cif, user_id, balance, held_amount, status, "
+            + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?, ?)";
+
+    private static final String EXISTING_TYPES_SQL = "SELECT user_id, account_type FROM accounts WHERE user_id IN (:userIds)";
+
+    private static final String EXISTING_NUMBERS_SQL = "SELECT account_number FROM accounts "
+            + "WHERE account_number IN (:accountNumbers)";
+
+    private static final String AUTH_SERVICE_AUDIENCE = "auth-service";
+
+    private final AccountImportJobRepository jobRepository;
+    private final CustomerServiceClient customerServiceClient;
+    private final InternalTokens internalTokens;
+    private final String serviceName;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final Path spoolDir;
+
+    private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "account-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public AccountImportServiceImpl(AccountImportJobRepository jobRepository,
+            CustomerServiceClient customerServiceClient,
+            InternalTokens internalTokens,
+            @Value("${spring.application.name:account-service}") String serviceName,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${account.import.chunk-size:1000}") int chunkSize,
+            @Value("${account.import.spool-dir:${java.io.tmpdir}/account-imports}") String spoolDir) {
+        this.jobRepository = jobRepository;
+        this.customerServiceClient = customerServiceClient;
+        this.internalTokens = internalTokens;
+        this.serviceName = serviceName;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.spoolDir = Paths.get(spoolDir);
+    }
+
+    @Override
+    public AccountImportStatusDTO startImport(InputStream ndjson) {
+        String jobId = UUID.randomUUID().toString();
+        Path sourceFile = spoolDir.resolve(jobId + ".ndjson");
+        try {
+            Files.createDirectories(spoolDir);
+            Files.copy(ndjson, sourceFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ex) {
+            throw new AccountImportException("Unable to store import file: " + ex.getMessage(), ex);
+        }
+
+        AccountImportJob job = AccountImportJob.builder()
+                .jobId(jobId)
+                .status(ImportJobStatus.RUNNING)
+                .sourceFile(sourceFile.toString())
+                .build();
+        jobRepository.save(job);
+
+        submit(jobId);
+        return mapToDTO(job);
+    }
+
+    @Override
+    public AccountImportStatusDTO resumeImport(String jobId) {
+        AccountImportJob job = findJob(jobId);
+        if (job.getStatus() == ImportJobStatus.COMPLETED) {
+            throw new AccountImportException("Import job " + jobId + " has already completed");
+        }
+        if (runningJobs.contains(jobId)) {
+            throw new AccountImportException("Import job " + jobId + " is already running");
+        }
+
+        job.setStatus(ImportJobStatus.RUNNING);
+        job.setLastError(null);
+        jobRepository.save(job);
+
+        submit(jobId);
+        return mapToDTO(job);
+    }
+
+    @Override
+    public AccountImportStatusDTO getImportStatus(String jobId) {
+        return mapToDTO(findJob(jobId));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void submit(String jobId) {
+        runningJobs.add(jobId);
+        executor.submit(() -> {
+            try {
+                runJob(jobId);
+            } finally {
+                runningJobs.remove(jobId);
+            }
+        });
+    }
+
+    private void runJob(String jobId) {
+        AccountImportJob job = findJob(jobId);
+        log.info("Starting account import {} at line {}", jobId, job.getProcessedLines());
+
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(job.getSourceFile()), StandardCharsets.UTF_8)) {
+            // Skip everything that was committed by a previous run.
+            for (long skipped = 0; skipped < job.getProcessedLines(); skipped++) {
+                if (reader.readLine() == null) {
+                    break;
+                }
+            }
+
+            List<String> chunk = new ArrayList<>(chunkSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                chunk.add(line);
+                if (chunk.size() == chunkSize) {
+                    processChunk(jobId, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(jobId, chunk);
+            }
+
+            AccountImportJob finished = findJob(jobId);
+            finished.setStatus(ImportJobStatus.COMPLETED);
+            jobRepository.save(finished);
+            log.info("Account import {} completed: {} imported, {} skipped",
+                    jobId, finished.getImportedCount(), finished.getSkippedCount());
+        } catch (Exception ex) {
+            log.error("Account import {} failed", jobId, ex);
+            AccountImportJob failed = findJob(jobId);
+            failed.setStatus(ImportJobStatus.FAILED);
+            String message = ex.getMessage() == null ? ex.getClass().getSimpleName() : ex.getMessage();
+            failed.setLastError(message.length() > 1000 ? message.substring(0, 1000) : message);
+            jobRepository.save(failed);
+        }
+    }
+
+    private void processChunk(String jobId, List<String> lines) {
+        List<AccountImportRecordDTO> records = new ArrayList<>(lines.size());
+        long skipped = 0;
+        for (String line : lines) {
+            if (line.isBlank()) {
+                skipped++;
+                continue;
+            }
+            try {
+                AccountImportRecordDTO record = objectMapper.readValue(line, AccountImportRecordDTO.class);
+                if (record.getUserId() == null) {
+                    skipped++;
+                    continue;
+                }
+                records.add(record);
+            } catch (IOException ex) {
+                skipped++;
+            }
+        }
+
+        // Resolve all customers of the chunk in one round-trip, outside the DB
+        // transaction.
+        Map<Long, CustomerStatusDTO> customers = resolveCustomers(records);
+
+        final long parseSkipped = skipped;
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<String> takenTypes = loadExistingAccountTypes(customers.keySet());
+            List<Object[]> rows = new ArrayList<>(records.size());
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            long rejected = parseSkipped;
+
+            for (AccountImportRecordDTO record : records) {
+                CustomerStatusDTO customer = customers.get(record.getUserId());
+                String accountType = record.getAccountType() == null || record.getAccountType().isBlank()
+                        ? "SAVINGS"
+                        : record.getAccountType().trim().toUpperCase(Locale.ROOT);
+                BigDecimal balance = record.getBalance() == null ? BigDecimal.ZERO : record.getBalance();
+
+                // Same onboarding rules as createAccount: a CIF must exist and only one
+                // account per type is allowed per person.
+                if (customer == null || balance.signum() < 0
+                        || !takenTypes.add(record.getUserId() + ":" + accountType)) {
+                    rejected++;
+                    continue;
+                }
+
+                boolean isCustomerActive = "ACTIVE".equalsIgnoreCase(customer.getCustomerStatus())
+                        && "VERIFIED".equalsIgnoreCase(customer.getKycStatus());
+                // Null until assignAccountNumbers generates one
+                String accountNumber = record.getAccountNumber() == null || record.getAccountNumber().isBlank()
+                        ? null
+                        : record.getAccountNumber().trim();
+
+                rows.add(new Object[] {
+                        accountNumber,
+                        record.getAccountName(),
+                        accountType,
+                        customer.getCifNumber(),
+                        record.getUserId(),
+                        balance,
+                        (isCustomerActive ? AccountStatus.ACTIVE : AccountStatus.INACTIVE).name(),
+                        now,
+                        now
+                });
+            }
+
+            rejected += assignAccountNumbers(rows);
+            // A plain INSERT either writes every row or throws, rolling the chunk back
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_ACCOUNT_SQL, rows);
+            }
+            long imported = rows.size();
+
+            AccountImportJob job = findJob(jobId);
+            job.setProcessedLines(job.getProcessedLines() + lines.size());
+            job.setCommittedChunks(job.getCommittedChunks() + 1);
+            job.setImportedCount(job.getImportedCount() + imported);
+            job.setSkippedCount(job.getSkippedCount() + rejected);
+            jobRepository.save(job);
+        });
+    }
+
+    /**
+     * Drops rows whose supplied account number is already taken, in the table
+     * or earlier in the chunk, and fills in a free generated number for the
+     * rest. Returns the number of rows dropped.
+     */
+    private long assignAccountNumbers(List<Object[]> rows) {
+        Set<String> supplied = new HashSet<>();
+        for (Object[] row : rows) {
+            if (row[0] != null) {
+                supplied.add((String) row[0]);
+            }
+        }
+        Set<String> taken = loadExistingAccountNumbers(supplied);
+
+        long dropped = 0;
+        List<Object[]> generated = new ArrayList<>();
+        for (Iterator<Object[]> it = rows.iterator(); it.hasNext();) {
+            Object[] row = it.next();
+            if (row[0] == null) {
+                generated.add(row);
+            } else if (!taken.add((String) row[0])) {
+                it.remove();
+                dropped++;
+            }
+        }
+
+        // Collisions of the short generated numbers are rare; draw again until none is taken
+        while (!generated.isEmpty()) {
+            Map<String, Object[]> candidates = new HashMap<>();
+            for (Object[] row : generated) {
+                String candidate;
+                do {
+                    candidate = "ACC" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+                } while (taken.contains(candidate) || candidates.containsKey(candidate));
+                candidates.put(candidate, row);
+            }
+            Set<String> existing = loadExistingAccountNumbers(candidates.keySet());
+            generated = new ArrayList<>();
+            for (Map.Entry<String, Object[]> candidate : candidates.entrySet()) {
+                if (existing.contains(candidate.getKey())) {
+                    generated.add(candidate.getValue());
+                } else {
+                    candidate.getValue()[0] = candidate.getKey();
+                    taken.add(candidate.getKey());
+                }
+            }
+            taken.addAll(existing);
+        }
+        return dropped;
+    }
+
+    private Set<String> loadExistingAccountNumbers(Set<String> accountNumbers) {
+        Set<String> existing = new HashSet<>();
+        if (accountNumbers.isEmpty()) {
+            return existing;
+        }
+        namedJdbcTemplate.query(EXISTING_NUMBERS_SQL, new MapSqlParameterSource("accountNumbers", accountNumbers),
+                rs -> {
+                    existing.add(rs.getString("account_number"));
+                });
+        return existing;
+    }
+
+    private Map<Long, CustomerStatusDTO> resolveCustomers(List<AccountImportRecordDTO> records) {
+        Set<Long> userIds = new HashSet<>();
+        for (AccountImportRecordDTO record : records) {
+            userIds.add(record.getUserId());
+        }
+        Map<Long, CustomerStatusDTO> customers = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return customers;
+        }
+        // The bulk lookup is service-only at auth-service
+        String authorization = "Internal " + internalTokens.mintForService(serviceName, AUTH_SERVICE_AUDIENCE);
+        for (CustomerStatusDTO customer : customerServiceClient.getCustomersByUserIds(new ArrayList<>(userIds),
+                authorization)) {
+            customers.put(customer.getUserId(), customer);
+        }
+        return customers;
+    }
+
+    private Set<String> loadExistingAccountTypes(Set<Long> userIds) {
+        Set<String> taken = new HashSet<>();
+        if (userIds.isEmpty()) {
+            return taken;
+        }
+        namedJdbcTemplate.query(EXISTING_TYPES_SQL, new MapSqlParameterSource("userIds", userIds),
+                rs -> {
+                    String type = rs.getString("account_type");
+                    if (type != null) {
+                        taken.add(rs.getLong("user_id") + ":" + type.toUpperCase(Locale.ROOT));
+                    }
+                });
+        return taken;
+    }
+
+    private AccountImportJob findJob(String jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new ImportJobNotFoundException("Import job not found: " + jobId));
+    }
+
+    private AccountImportStatusDTO mapToDTO(AccountImportJob job) {
+        return AccountImportStatusDTO.builder()
+                .jobId(job.getJobId())
+                .status(job.getStatus().name())
+                .processedLines(job.getProcessedLines())
+                .committedChunks(job.getCommittedChunks())
+                .importedCount(job.getImportedCount())
+                .skippedCount(job.getSkippedCount())
+                .lastError(job.getLastError())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .build();
+    }
+}
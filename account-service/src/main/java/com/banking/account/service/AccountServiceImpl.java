@@ -43,7 +43,7 @@ public class AccountServiceImpl implements AccountService {
 
     @Override
     public void debitAccount(String accountNumber, DebitRequestDTO debitRequest) {
-        Account account = accountRepository.findByAccountNumber(accountNumber)
+        Account account = accountRepository.findByAccountNumberForUpdate(accountNumber)
                 .orElseThrow(() -> new AccountNotFoundException("Account not found: " + accountNumber));
 
         activateIfEligible(account);
@@ -52,7 +52,8 @@ public class AccountServiceImpl implements AccountService {
             throw new AccountInactiveException("Account is not active");
         }
 
-        if (account.getBalance().compareTo(debitRequest.getAmount()) < 0) {
+        // Funds reserved by open holds are not available for direct debits.
+        if (account.getAvailableBalance().compareTo(debitRequest.getAmount()) < 0) {
             throw new InsufficientBalanceException("Insufficient balance");
         }
 
@@ -62,7 +63,7 @@ public class AccountServiceImpl implements AccountService {
 
     @Override
     public void creditAccount(String accountNumber, CreditRequestDTO creditRequest) {
-        Account account = accountRepository.findByAccountNumber(accountNumber)
+        Account account = accountRepository.findByAccountNumberForUpdate(accountNumber)
                 .orElseThrow(() -> new AccountNotFoundException("Account not found: " + accountNumber));
 
         activateIfEligible(account);
@@ -121,6 +122,7 @@ public class AccountServiceImpl implements AccountService {
         account.setUserId(createRequest.getUserId());
         account.setBalance(
                 createRequest.getInitialBalance() != null ? createRequest.getInitialBalance() : BigDecimal.ZERO);
+        account.setHeldAmount(BigDecimal.ZERO);
         account.setStatus(isCustomerActive ? AccountStatus.ACTIVE : AccountStatus.INACTIVE);
         account.setCreatedAt(LocalDateTime.now());
         account.setUpdatedAt(LocalDateTime.now());
@@ -178,6 +180,8 @@ public class AccountServiceImpl implements AccountService {
                 .customerCif(account.getCustomerCif())
                 .userId(account.getUserId())
                 .balance(account.getBalance())
+                .heldAmount(account.getHeldAmount())
+                .availableBalance(account.getAvailableBalance())
                 .status(account.getStatus().toString())
                 .createdAt(account.getCreatedAt())
                 .updatedAt(account.getUpdatedAt())
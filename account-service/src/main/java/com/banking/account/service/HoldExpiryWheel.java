@@ -0,0 +1,132 @@
+package com.banking.account.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timer wheel for hold expiry.
+ *
+ * Scheduling is O(1) and lock-free: callers only append to a pending queue.
+ * A single worker thread owns the buckets; once per tick it moves pending
+ * entries into the bucket for their deadline (with the number of full wheel
+ * rotations still to wait) and fires every entry in the current bucket whose
+ * rotation count has reached zero. Expiry is therefore accurate to one tick,
+ * which is plenty for holds measured in minutes.
+ *
+ * Firing only hands the hold id to the callback; the callback must re-check
+ * the hold's state, since it may have been committed or released meanwhile.
+ */
+@Slf4j
+class HoldExpiryWheel {
+
+    private static final class Entry {
+        final String holdId;
+        final long deadlineMillis;
+        long remainingRounds;
+
+        Entry(String holdId, long deadlineMillis) {
+            this.holdId = holdId;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+
+    private final long tickMillis;
+    private final int mask;
+    private final Queue<Entry>[] buckets;
+    private final Queue<Entry> pending = new ConcurrentLinkedQueue<>();
+    private final Consumer<String> onExpire;
+    private final Thread worker;
+
+    private volatile boolean running;
+    private long startMillis;
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    HoldExpiryWheel(long tickMillis, int wheelSize, Consumer<String> onExpire) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        int size = wheelSize <= 1 ? 1 : Integer.highestOneBit(wheelSize - 1) << 1; // round up to a power of two
+        this.tickMillis = tickMillis;
+        this.mask = size - 1;
+        this.buckets = new Queue[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.onExpire = onExpire;
+        this.worker = new Thread(this::run, "hold-expiry-wheel");
+        this.worker.setDaemon(true);
+    }
+
+    synchronized void start() {
+        if (running) {
+            return;
+        }
+        startMillis = System.currentTimeMillis();
+        running = true;
+        worker.start();
+    }
+
+    void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    void schedule(String holdId, long deadlineMillis) {
+        pending.add(new Entry(holdId, deadlineMillis));
+    }
+
+    private void run() {
+        while (running) {
+            long tickEnd = startMillis + (tick + 1) * tickMillis;
+            long sleep = tickEnd - System.currentTimeMillis();
+            if (sleep > 0) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(sleep);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                    continue;
+                }
+            }
+            transferPending();
+            expireBucket(buckets[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    private void transferPending() {
+        Entry entry;
+        while ((entry = pending.poll()) != null) {
+            long calculated = (entry.deadlineMillis - startMillis) / tickMillis;
+            entry.remainingRounds = Math.max(calculated - tick, 0) / buckets.length;
+            // Deadlines already in the past land in the current bucket and fire this tick.
+            long ticks = Math.max(calculated, tick);
+            buckets[(int) (ticks & mask)].add(entry);
+        }
+    }
+
+    private void expireBucket(Queue<Entry> bucket) {
+        Iterator<Entry> it = bucket.iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.remainingRounds > 0) {
+                entry.remainingRounds--;
+                continue;
+            }
+            it.remove();
+            try {
+                onExpire.accept(entry.holdId);
+            } catch (RuntimeException e) {
+                log.warn("Expiry callback failed for hold {}: {}", entry.holdId, e.getMessage());
+            }
+        }
+    }
+}
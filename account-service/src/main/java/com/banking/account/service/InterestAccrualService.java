@@ -0,0 +1,9 @@
+package com.banking.account.service;
+
+import com.banking.account.dto.InterestAccrualSummaryDTO;
+
+import java.time.LocalDate;
+
+public interface InterestAccrualService {
+    InterestAccrualSummaryDTO runAccrual(LocalDate businessDate);
+}
@@ -0,0 +1,289 @@
+package com.banking.account.service;
+
+import com.banking.account.dto.InterestAccrualSummaryDTO;
+import com.banking.account.entity.InterestAccrualCheckpoint;
+import com.banking.account.exception.InterestAccrualException;
+import com.banking.account.repository.InterestAccrualCheckpointRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * End-of-day interest accrual for SAVINGS accounts.
+ *
+ * Accounts are split into fixed id-range partitions (aligned to multiples of
+ * the partition size, so a rerun of the same business date finds the same
+ * partitions and their checkpoints). Partitions run in parallel on a bounded
+ * pool; each one walks its range with keyset pagination and, per page, posts
+ * the accrual rows, credits the balances and advances its checkpoint in a
+ * single transaction. The page's rows are locked for that transaction, so a
+ * concurrent debit or credit cannot land between reading a balance and
+ * crediting interest on it.
+ */
+@Slf4j
+@Service
+public class InterestAccrualServiceImpl implements InterestAccrualService {
+
+    private static final String ID_BOUNDS_SQL = "SELECT MIN(id), MAX(id) FROM accounts "
+            + "WHERE account_type = 'SAVINGS' AND status = 'ACTIVE'";
+
+    private static final String PAGE_SQL = "SELECT id, account_number, balance FROM accounts "
+            + "WHERE account_type = 'SAVINGS' AND status = 'ACTIVE' AND id > ? AND id < ? "
+            + "ORDER BY id LIMIT ? FOR UPDATE";
+
+    private static final String INSERT_ACCRUAL_SQL = "INSERT INTO interest_accruals "
+            + "(account_id, account_number, business_date, amount, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    /** Range start of the completed checkpoint that closes a day with no accounts to accrue. */
+    private static final long EMPTY_DAY_RANGE_START = -1L;
+
+    private static final String CREDIT_SQL = "UPDATE accounts SET balance = balance + ?, updated_at = ? WHERE id = ?";
+
+    private final InterestAccrualCheckpointRepository checkpointRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BigDecimal annualRate;
+    private final long partitionSize;
+    private final int pageSize;
+    private final ExecutorService partitionPool;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public InterestAccrualServiceImpl(InterestAccrualCheckpointRepository checkpointRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${account.interest.annual-rate:0.035}") BigDecimal annualRate,
+            @Value("${account.interest.partition-size:10000}") long partitionSize,
+            @Value("${account.interest.page-size:500}") int pageSize,
+            @Value("${account.interest.threads:0}") int threads) {
+        this.checkpointRepository = checkpointRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.annualRate = annualRate;
+        this.partitionSize = partitionSize;
+        this.pageSize = pageSize;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.partitionPool = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "interest-accrual-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Nightly run for the business day that just ended. Disabled unless
+     * account.interest.cron is set.
+     */
+    @Scheduled(cron = "${account.interest.cron:-}")
+    public void runScheduledAccrual() {
+        runAccrual(LocalDate.now().minusDays(1));
+    }
+
+    @Override
+    public InterestAccrualSummaryDTO runAccrual(LocalDate businessDate) {
+        validateBusinessDate(businessDate);
+        if (!running.compareAndSet(false, true)) {
+            throw new InterestAccrualException("An interest accrual run is already in progress");
+        }
+
+        long started = System.currentTimeMillis();
+        try {
+            List<InterestAccrualCheckpoint> checkpoints = preparePartitions(businessDate);
+
+            int resumed = 0;
+            List<Future<?>> futures = new ArrayList<>();
+            for (InterestAccrualCheckpoint checkpoint : checkpoints) {
+                if (checkpoint.isCompleted()) {
+                    continue;
+                }
+                if (checkpoint.getLastProcessedId() >= checkpoint.getRangeStart()) {
+                    resumed++;
+                }
+                final Long checkpointId = checkpoint.getId();
+                futures.add(partitionPool.submit(() -> processPartition(checkpointId, businessDate)));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            long accountsCredited = 0;
+            BigDecimal totalInterest = BigDecimal.ZERO;
+            for (InterestAccrualCheckpoint checkpoint : checkpoints) {
+                InterestAccrualCheckpoint done = checkpointRepository.findById(checkpoint.getId()).orElse(checkpoint);
+                accountsCredited += done.getAccountsCredited();
+                totalInterest = totalInterest.add(done.getTotalInterest());
+            }
+
+            long duration = System.currentTimeMillis() - started;
+            log.info("Interest accrual for {} finished: {} partitions, {} accounts credited, {} total in {} ms",
+                    businessDate, checkpoints.size(), accountsCredited, totalInterest, duration);
+
+            return InterestAccrualSummaryDTO.builder()
+                    .businessDate(businessDate)
+                    .partitions(checkpoints.size())
+                    .partitionsResumed(resumed)
+                    .accountsCredited(accountsCredited)
+                    .totalInterest(totalInterest)
+                    .durationMs(duration)
+                    .build();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterestAccrualException("Interest accrual was interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw new InterestAccrualException(
+                    "Interest accrual failed; rerun to resume from checkpoints: " + ex.getCause().getMessage(),
+                    ex.getCause());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Only days that have ended can accrue, and only the last closed one or
+     * the day after it: the last closed one may be rerun (it resumes to a
+     * no-op), earlier ones would post interest out of order, and later ones
+     * would skip days that never accrued. Missed days are run one at a time,
+     * oldest first.
+     */
+    private void validateBusinessDate(LocalDate businessDate) {
+        if (!businessDate.isBefore(LocalDate.now())) {
+            throw new InterestAccrualException("Business date " + businessDate + " has not ended yet");
+        }
+        checkpointRepository.findLastClosedBusinessDate().ifPresent(lastClosed -> {
+            if (businessDate.isBefore(lastClosed)) {
+                throw new InterestAccrualException("Business date " + businessDate
+                        + " is before the last closed business day " + lastClosed);
+            }
+            if (businessDate.isAfter(lastClosed.plusDays(1))) {
+                throw new InterestAccrualException("Business date " + businessDate
+                        + " skips unclosed days; run " + lastClosed.plusDays(1) + " first");
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        partitionPool.shutdownNow();
+    }
+
+    private List<InterestAccrualCheckpoint> preparePartitions(LocalDate businessDate) {
+        List<InterestAccrualCheckpoint> checkpoints = new ArrayList<>();
+        Long[] bounds = jdbcTemplate.queryForObject(ID_BOUNDS_SQL,
+                (rs, rowNum) -> new Long[] { rs.getObject(1, Long.class), rs.getObject(2, Long.class) });
+        if (bounds == null || bounds[0] == null) {
+            // Nothing to accrue; still close the day so the next one may run
+            if (checkpointRepository.findByBusinessDateAndRangeStart(businessDate, EMPTY_DAY_RANGE_START).isEmpty()) {
+                checkpointRepository.save(InterestAccrualCheckpoint.builder()
+                        .businessDate(businessDate)
+                        .rangeStart(EMPTY_DAY_RANGE_START)
+                        .rangeEnd(EMPTY_DAY_RANGE_START)
+                        .lastProcessedId(EMPTY_DAY_RANGE_START)
+                        .completed(true)
+                        .totalInterest(BigDecimal.ZERO)
+                        .build());
+            }
+            return checkpoints;
+        }
+
+        long firstStart = Math.floorDiv(bounds[0], partitionSize) * partitionSize;
+        for (long start = firstStart; start <= bounds[1]; start += partitionSize) {
+            final long rangeStart = start;
+            InterestAccrualCheckpoint checkpoint = checkpointRepository
+                    .findByBusinessDateAndRangeStart(businessDate, rangeStart)
+                    .orElseGet(() -> checkpointRepository.save(InterestAccrualCheckpoint.builder()
+                            .businessDate(businessDate)
+                            .rangeStart(rangeStart)
+                            .rangeEnd(rangeStart + partitionSize)
+                            .lastProcessedId(rangeStart - 1)
+                            .totalInterest(BigDecimal.ZERO)
+                            .build()));
+            checkpoints.add(checkpoint);
+        }
+        return checkpoints;
+    }
+
+    private void processPartition(Long checkpointId, LocalDate businessDate) {
+        BigDecimal dailyRate = annualRate.divide(BigDecimal.valueOf(businessDate.lengthOfYear()), 12,
+                RoundingMode.HALF_EVEN);
+        boolean more = true;
+        while (more) {
+            more = Boolean.TRUE.equals(transactionTemplate.execute(status -> accruePage(checkpointId, dailyRate)));
+        }
+    }
+
+    /**
+     * Accrues one keyset page of a partition. Returns false once the partition
+     * is exhausted.
+     */
+    private boolean accruePage(Long checkpointId, BigDecimal dailyRate) {
+        InterestAccrualCheckpoint checkpoint = checkpointRepository.findById(checkpointId)
+                .orElseThrow(() -> new InterestAccrualException("Checkpoint not found: " + checkpointId));
+
+        List<Object[]> page = jdbcTemplate.query(PAGE_SQL,
+                (rs, rowNum) -> new Object[] { rs.getLong("id"), rs.getString("account_number"),
+                        rs.getBigDecimal("balance") },
+                checkpoint.getLastProcessedId(), checkpoint.getRangeEnd(), pageSize);
+
+        if (page.isEmpty()) {
+            checkpoint.setCompleted(true);
+            checkpointRepository.save(checkpoint);
+            return false;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Date postingDate = Date.valueOf(checkpoint.getBusinessDate());
+        List<Object[]> accruals = new ArrayList<>(page.size());
+        List<Object[]> credits = new ArrayList<>(page.size());
+        BigDecimal pageInterest = BigDecimal.ZERO;
+
+        for (Object[] row : page) {
+            BigDecimal balance = (BigDecimal) row[2];
+            if (balance == null || balance.signum() <= 0) {
+                continue;
+            }
+            BigDecimal interest = balance.multiply(dailyRate).setScale(2, RoundingMode.HALF_EVEN);
+            if (interest.signum() <= 0) {
+                continue;
+            }
+            accruals.add(new Object[] { row[0], row[1], postingDate, interest, now });
+            credits.add(new Object[] { interest, now, row[0] });
+            pageInterest = pageInterest.add(interest);
+        }
+
+        if (!accruals.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ACCRUAL_SQL, accruals);
+            jdbcTemplate.batchUpdate(CREDIT_SQL, credits);
+        }
+
+        checkpoint.setLastProcessedId((Long) page.get(page.size() - 1)[0]);
+        checkpoint.setAccountsCredited(checkpoint.getAccountsCredited() + credits.size());
+        checkpoint.setTotalInterest(checkpoint.getTotalInterest().add(pageInterest));
+        if (page.size() < pageSize) {
+            checkpoint.setCompleted(true);
+        }
+        checkpointRepository.save(checkpoint);
+        return !checkpoint.isCompleted();
+    }
+}
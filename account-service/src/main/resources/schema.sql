@@ -5,8 +5,58 @@ CREATE TABLE accounts (
     account_type VARCHAR(50),
     customer_id BIGINT NOT NULL,
     balance DECIMAL(15,2) NOT NULL DEFAULT 0.00,
+    held_amount DECIMAL(15,2) NOT NULL DEFAULT 0.00,
     status VARCHAR(50) NOT NULL DEFAULT 'ACTIVE',
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     INDEX idx_customer_id (customer_id)
-);
\ No newline at end of file
+);
+
+CREATE TABLE account_import_jobs (
+    job_id VARCHAR(64) PRIMARY KEY,
+    status VARCHAR(50) NOT NULL,
+    source_file VARCHAR(1024) NOT NULL,
+    processed_lines BIGINT NOT NULL DEFAULT 0,
+    committed_chunks BIGINT NOT NULL DEFAULT 0,
+    imported_count BIGINT NOT NULL DEFAULT 0,
+    skipped_count BIGINT NOT NULL DEFAULT 0,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+CREATE TABLE interest_accrual_checkpoints (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    business_date DATE NOT NULL,
+    range_start BIGINT NOT NULL,
+    range_end BIGINT NOT NULL,
+    last_processed_id BIGINT NOT NULL,
+    completed BOOLEAN NOT NULL DEFAULT FALSE,
+    accounts_credited BIGINT NOT NULL DEFAULT 0,
+    total_interest DECIMAL(19,2) NOT NULL DEFAULT 0.00,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    UNIQUE KEY uk_accrual_checkpoint (business_date, range_start)
+);
+
+CREATE TABLE interest_accruals (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    account_id BIGINT NOT NULL,
+    account_number VARCHAR(255) NOT NULL,
+    business_date DATE NOT NULL,
+    amount DECIMAL(19,2) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE KEY uk_accrual_account_date (account_id, business_date)
+);
+
+CREATE TABLE account_holds (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    hold_id VARCHAR(64) UNIQUE NOT NULL,
+    account_number VARCHAR(255) NOT NULL,
+    amount DECIMAL(19,2) NOT NULL,
+    description VARCHAR(255),
+    status VARCHAR(50) NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    INDEX idx_hold_status (status)
+);
@@ -1,7 +1,18 @@
 package com.banking.auth.config;
 
+import com.banking.auth.controller.ServerKeyStore;
 import com.banking.auth.security.JwtTokenProvider;
 import com.banking.auth.security.PQJwtTokenProvider;
+import com.banking.security.internal.InternalTokens;
+import com.banking.security.jwt.CachingTokenVerifier;
+import com.banking.security.jwt.HmacJwtVerifier;
+import com.banking.security.jwt.JwtVerifier;
+import com.banking.security.jwt.MlDsaJwtVerifier;
+import com.banking.security.jwt.TokenRejections;
+import com.banking.security.revocation.RevocationList;
+import com.banking.security.session.SessionTickets;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,6 +29,85 @@ public class JwtConfig {
     @Value("${jwt.use-post-quantum:false}")
     private boolean usePostQuantum;
 
+    @Bean
+    public HmacJwtVerifier hmacJwtVerifier(@Value("${jwt.secret}") String jwtSecret) {
+        return new HmacJwtVerifier(jwtSecret);
+    }
+
+    /**
+     * Revoked tokens, synced from the revoked_tokens table by
+     * TokenRevocationServiceImpl and checked by the JWT filter.
+     */
+    @Bean
+    public RevocationList revocationList() {
+        return new RevocationList();
+    }
+
+    /**
+     * Verifies the per-call credentials other services send
+     * ({@code Authorization: Internal ...}); keyed from the shared jwt.secret.
+     */
+    @Bean
+    public InternalTokens internalTokens(@Value("${jwt.secret}") String jwtSecret,
+            @Value("${internal-token.ttl-seconds:30}") long ttlSeconds) {
+        return new InternalTokens(jwtSecret, ttlSeconds);
+    }
+
+    /**
+     * Seals PQ session ids. Keyed from jwt.secret so every service sharing
+     * the secret can open them.
+     */
+    @Bean
+    public SessionTickets sessionTickets(@Value("${jwt.secret}") String jwtSecret) {
+        return new SessionTickets(jwtSecret);
+    }
+
+    /**
+     * PQ token verifier with one ML-DSA verifier per accepted parameter set,
+     * dispatched on the token's alg header.
+     */
+    @Bean
+    public JwtVerifier pqJwtVerifier(ServerKeyStore serverKeyStore) {
+        return new JwtVerifier(serverKeyStore.getDsaAlgorithms().stream()
+                .map(algorithm -> new MlDsaJwtVerifier(algorithm, "BC",
+                        kid -> serverKeyStore.getDsaPublic(algorithm, kid)))
+                .toArray(MlDsaJwtVerifier[]::new));
+    }
+
+    /**
+     * Verifier for incoming requests. Accepts only the algorithms this service
+     * issues, so switching jwt.use-post-quantum also switches what is accepted.
+     */
+    @Bean
+    @Primary
+    public JwtVerifier jwtVerifier(HmacJwtVerifier hmacJwtVerifier,
+            @Qualifier("pqJwtVerifier") JwtVerifier pqJwtVerifier) {
+        return usePostQuantum ? pqJwtVerifier : new JwtVerifier(hmacJwtVerifier);
+    }
+
+    /**
+     * The request verifier behind caches of verified tokens and of recent
+     * rejections, so neither a token in active use nor a replayed bad one is
+     * signature-checked on every request.
+     */
+    @Bean
+    public CachingTokenVerifier cachingTokenVerifier(JwtVerifier jwtVerifier,
+            @Value("${jwt.cache.max-size:10000}") long maxSize,
+            @Value("${jwt.cache.max-ttl-seconds:86400}") long maxTtlSeconds,
+            @Value("${jwt.cache.negative-max-size:10000}") long negativeMaxSize,
+            @Value("${jwt.cache.negative-ttl-seconds:60}") long negativeTtlSeconds) {
+        return new CachingTokenVerifier(jwtVerifier, maxSize, maxTtlSeconds, negativeMaxSize, negativeTtlSeconds);
+    }
+
+    /**
+     * Rejected tokens by reason, exported as jwt.rejections{reason}.
+     */
+    @Bean
+    public TokenRejections tokenRejections(MeterRegistry meterRegistry,
+            @Value("${jwt.rejections.log-interval-ms:10000}") long logIntervalMs) {
+        return new TokenRejections(logIntervalMs).bindTo(meterRegistry);
+    }
+
     /**
      * Primary JWT token provider based on configuration.
      * Set jwt.use-post-quantum=true in application.yml to use PQ algorithms.
@@ -1,6 +1,12 @@
 package com.banking.auth.config;
 
+import com.banking.auth.security.KeyPairPool;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.security.Security;
@@ -14,5 +20,26 @@ public class PQCProviderConfig {
                 new org.bouncycastle.pqc.jcajce.provider.BouncyCastlePQCProvider()
         );
     }
-}
 
+    /**
+     * Pre-generated ML-DSA-65 key pairs for POST /api/crypto/generate-keys, so
+     * onboarding bursts do not queue on key generation. Pool depth and inline
+     * fallbacks are exported as crypto.keypair.pool.size / .misses.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public KeyPairPool clientKeyPairPool(MeterRegistry meterRegistry,
+            @Value("${auth.key-pair-pool.capacity:64}") int capacity,
+            @Value("${auth.key-pair-pool.low-water-mark:16}") int lowWaterMark) {
+        if (Security.getProvider("BC") == null) {
+            Security.addProvider(new org.bouncycastle.jce.provider.BouncyCastleProvider());
+        }
+        KeyPairPool pool = new KeyPairPool("ML-DSA-65", "BC", capacity, lowWaterMark);
+        Gauge.builder("crypto.keypair.pool.size", pool, KeyPairPool::size)
+                .tag("algorithm", pool.algorithm())
+                .register(meterRegistry);
+        FunctionCounter.builder("crypto.keypair.pool.misses", pool, KeyPairPool::misses)
+                .tag("algorithm", pool.algorithm())
+                .register(meterRegistry);
+        return pool;
+    }
+}
@@ -1,10 +1,14 @@
 package com.banking.auth.config;
 
+import com.banking.auth.security.BoundedPasswordEncoder;
 import com.banking.auth.security.JwtAuthenticationEntryPoint;
 import com.banking.auth.security.HybridJwtAuthenticationFilter;
+import com.banking.security.internal.InternalTokens;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -32,16 +36,23 @@ public class SecurityConfig {
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final HybridJwtAuthenticationFilter hybridJwtAuthenticationFilter;
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    /**
+     * BCrypt on a bounded pool (auth.password-hashing.*); a full queue answers
+     * 429 instead of tying up request threads.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${auth.password-hashing.threads:0}") int threads,
+            @Value("${auth.password-hashing.queue-capacity:32}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), poolSize, queueCapacity);
     }
 
     @Bean
-    public DaoAuthenticationProvider authenticationProvider() {
+    public DaoAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
@@ -65,20 +76,31 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, DaoAuthenticationProvider authenticationProvider)
+            throws Exception {
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(csrf -> csrf.disable())
                 .exceptionHandling(exception -> exception.authenticationEntryPoint(jwtAuthenticationEntryPoint))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(HttpMethod.POST, "/api/crypto/keys/rotate").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/crypto/session").authenticated()
+                        .requestMatchers(HttpMethod.POST, "/api/auth/logout", "/api/auth/logout-all").authenticated()
+                        .requestMatchers(HttpMethod.POST, "/api/auth/users/*/revoke-tokens").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/auth/revocations").hasRole(InternalTokens.SERVICE_ROLE)
+                        .requestMatchers(HttpMethod.POST, "/api/customers/by-user-ids")
+                        .hasAnyRole(InternalTokens.SERVICE_ROLE, "ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/auth/validate:batch")
+                        .hasAnyRole(InternalTokens.SERVICE_ROLE, "ADMIN")
                         .requestMatchers("/api/auth/**", "/api/crypto/**").permitAll()
                         .requestMatchers("/api/customers/**").permitAll() // Allow all customer endpoints
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll() // Swagger
                                                                                                               // UI
                         .anyRequest().authenticated());
 
-        http.authenticationProvider(authenticationProvider());
+        http.authenticationProvider(authenticationProvider);
         http.addFilterBefore(hybridJwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
@@ -1,15 +1,25 @@
 package com.banking.auth.controller;
 
 import com.banking.auth.dto.AuthResponseDTO;
+import com.banking.auth.dto.BatchValidateRequestDTO;
+import com.banking.auth.dto.BatchValidateResponseDTO;
 import com.banking.auth.dto.LoginRequestDTO;
+import com.banking.auth.dto.RefreshTokenRequestDTO;
 import com.banking.auth.dto.RegisterRequestDTO;
 import com.banking.auth.dto.UserKycDTO;
+import com.banking.auth.security.UserDetailsImpl;
 import com.banking.auth.service.AuthService;
+import com.banking.auth.service.TokenRevocationService;
+import com.banking.auth.service.TokenValidationService;
+import com.banking.auth.service.UserStateService;
+import com.banking.security.revocation.RevocationDelta;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
@@ -20,6 +30,9 @@ import java.util.Map;
 public class AuthController {
 
     private final AuthService authService;
+    private final UserStateService userStateService;
+    private final TokenRevocationService tokenRevocationService;
+    private final TokenValidationService tokenValidationService;
 
     @PostMapping("/register")
     public ResponseEntity<AuthResponseDTO> register(@Valid @RequestBody RegisterRequestDTO registerRequest) {
@@ -33,6 +46,40 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponseDTO> refresh(@Valid @RequestBody RefreshTokenRequestDTO refreshRequest) {
+        AuthResponseDTO response = authService.refresh(refreshRequest);
+        return ResponseEntity.ok(response);
+    }
+
+    // Revokes the presented access token (authenticated, see SecurityConfig)
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader("Authorization") String authHeader) {
+        String token = authHeader.startsWith("Bearer ") ? authHeader.substring(7) : authHeader;
+        tokenRevocationService.revokeToken(token);
+        return ResponseEntity.noContent().build();
+    }
+
+    // Revokes every access and refresh token of the current user
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutAll(@AuthenticationPrincipal UserDetailsImpl user) {
+        tokenRevocationService.revokeUser(user.getId());
+        return ResponseEntity.noContent().build();
+    }
+
+    // Admin only, see SecurityConfig
+    @PostMapping("/users/{userId}/revoke-tokens")
+    public ResponseEntity<Void> revokeUserTokens(@PathVariable Long userId) {
+        tokenRevocationService.revokeUser(userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    // Revocation log after a cursor, polled by every service's RevocationList
+    @GetMapping("/revocations")
+    public ResponseEntity<RevocationDelta> getRevocations(@RequestParam(defaultValue = "0") long since) {
+        return ResponseEntity.ok(tokenRevocationService.delta(since));
+    }
+
     @GetMapping("/validate")
     public ResponseEntity<Map<String, Boolean>> validateToken(@RequestHeader("Authorization") String authHeader) {
         String token = authHeader.startsWith("Bearer ") ? authHeader.substring(7) : authHeader;
@@ -40,6 +87,14 @@ public class AuthController {
         return ResponseEntity.ok(Map.of("valid", isValid));
     }
 
+    // Validates up to auth.validate-batch.max-tokens tokens in one call, e.g. a gateway's micro-batch
+    @PostMapping("/validate:batch")
+    public ResponseEntity<BatchValidateResponseDTO> validateTokens(
+            @Valid @RequestBody BatchValidateRequestDTO batchRequest) {
+        return ResponseEntity.ok(new BatchValidateResponseDTO(
+                tokenValidationService.validateAll(batchRequest.getTokens())));
+    }
+
     @GetMapping("/health")
     public ResponseEntity<Map<String, String>> health() {
         return ResponseEntity.ok(Map.of("status", "UP", "service", "auth-service"));
@@ -57,6 +112,9 @@ public class AuthController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("message", "Unauthenticated"));
         }
+        if (!userStateService.isEnabled(authentication.getName())) {
+            throw new DisabledException("User account is disabled");
+        }
         return ResponseEntity.ok(authService.getCurrentUserSummary(authentication.getName()));
     }
 }
@@ -1,8 +1,13 @@
 package com.banking.auth.controller;
 
+import com.banking.auth.security.KeyPairPool;
+import com.banking.auth.security.UserDetailsImpl;
+import com.banking.auth.service.SessionService;
+import com.banking.security.crypto.ThreadLocalKeyFactories;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.bouncycastle.pqc.jcajce.provider.BouncyCastlePQCProvider;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import javax.crypto.Cipher;
@@ -10,15 +15,21 @@ import java.security.*;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
 import java.util.Base64;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/crypto")
 public class CryptoController {
 
     private final ServerKeyStore serverKeyStore;
+    private final SessionService sessionService;
+    private final KeyPairPool clientKeyPairPool;
 
-    public CryptoController(ServerKeyStore serverKeyStore) {
+    public CryptoController(ServerKeyStore serverKeyStore, SessionService sessionService,
+            KeyPairPool clientKeyPairPool) {
         this.serverKeyStore = serverKeyStore;
+        this.sessionService = sessionService;
+        this.clientKeyPairPool = clientKeyPairPool;
         // Register both providers
         if (Security.getProvider("BC") == null) {
             Security.addProvider(new BouncyCastleProvider());
@@ -28,13 +39,11 @@ public class CryptoController {
         }
     }
 
-    // Generate ML-DSA-65 key pair for client
+    // Generate ML-DSA-65 key pair for client (pre-generated in the background; inline only if the pool is empty)
     @PostMapping("/generate-keys")
     public ResponseEntity<KeyResponse> generateKeys() throws Exception {
         try {
-            KeyPairGenerator kpg = KeyPairGenerator.getInstance("ML-DSA-65", "BC");
-            // Don't initialize - ML-DSA-65 generates with default parameters
-            KeyPair kp = kpg.generateKeyPair();
+            KeyPair kp = clientKeyPairPool.take();
 
             String publicKeyBase64 = Base64.getEncoder().encodeToString(
                     kp.getPublic().getEncoded());
@@ -76,6 +85,27 @@ public class CryptoController {
         }
     }
 
+    // Published ML-DSA JWT verification keys (active, next and previous) by kid
+    @GetMapping("/keys")
+    public ResponseEntity<KeySetResponse> getKeySet() {
+        List<KeySetResponse.Key> keys = serverKeyStore.getPublishedDsaKeys().stream()
+                .map(key -> new KeySetResponse.Key(
+                        key.kid(),
+                        key.publicKey().getAlgorithm(),
+                        "sig",
+                        key.status(),
+                        Base64.getEncoder().encodeToString(key.publicKey().getEncoded())))
+                .toList();
+        return ResponseEntity.ok(new KeySetResponse(keys));
+    }
+
+    // Promote the next ML-DSA key to active (admin only, see SecurityConfig)
+    @PostMapping("/keys/rotate")
+    public ResponseEntity<java.util.Map<String, String>> rotateKeys() throws Exception {
+        ServerKeyStore.DsaKey active = serverKeyStore.rotateDsaKey();
+        return ResponseEntity.ok(java.util.Map.of("activeKid", active.kid()));
+    }
+
     // Sign data with client's ML-DSA private key
     @PostMapping("/sign")
     public ResponseEntity<SignResponse> signData(@RequestBody SignRequest req) {
@@ -85,7 +115,7 @@ public class CryptoController {
             byte[] nonceBytes = Base64.getDecoder().decode(req.serverNonce());
 
             // Reconstruct private key
-            PrivateKey privateKey = KeyFactory.getInstance("ML-DSA-65", "BC")
+            PrivateKey privateKey = ThreadLocalKeyFactories.get("ML-DSA-65", "BC")
                     .generatePrivate(new PKCS8EncodedKeySpec(privateKeyBytes));
 
             // Sign
@@ -110,18 +140,21 @@ public class CryptoController {
             byte[] serverPublicKeyBytes = Base64.getDecoder().decode(req.serverPublicKey());
 
             // Reconstruct server's public key
-            PublicKey serverPublicKey = KeyFactory.getInstance("ML-KEM-768", "BC")
+            PublicKey serverPublicKey = ThreadLocalKeyFactories.get("ML-KEM-768", "BC")
                     .generatePublic(new X509EncodedKeySpec(serverPublicKeyBytes));
 
             // ML-KEM uses WRAP_MODE for encapsulation (generating ciphertext)
             Cipher kemCipher = Cipher.getInstance("ML-KEM-768", "BC");
             kemCipher.init(Cipher.WRAP_MODE, serverPublicKey);
 
-            // Wrap a random key - ML-KEM generates shared secret automatically
-            byte[] ciphertextBytes = kemCipher.wrap(new javax.crypto.spec.SecretKeySpec(new byte[32], 0, 32, "RAW"));
+            // Wrap a fresh random secret; the server recovers it by unwrapping the ciphertext
+            byte[] sharedSecret = new byte[32];
+            new SecureRandom().nextBytes(sharedSecret);
+            byte[] ciphertextBytes = kemCipher.wrap(new javax.crypto.spec.SecretKeySpec(sharedSecret, "AES"));
 
             String ciphertextBase64 = Base64.getEncoder().encodeToString(ciphertextBytes);
-            return ResponseEntity.ok(new EncapsulateResponse(ciphertextBase64, null));
+            String sharedSecretBase64 = Base64.getEncoder().encodeToString(sharedSecret);
+            return ResponseEntity.ok(new EncapsulateResponse(ciphertextBase64, sharedSecretBase64));
         } catch (Exception e) {
             e.printStackTrace();
             System.err.println("Encapsulation error: " + e.getMessage());
@@ -129,6 +162,14 @@ public class CryptoController {
         }
     }
 
+    // Open a PQ session from an ML-KEM ciphertext (bearer token required, see SecurityConfig).
+    // Requests then authenticate with HMAC-SHA256 under HKDF(shared secret) instead of the JWT.
+    @PostMapping("/session")
+    public ResponseEntity<SessionResponse> openSession(@AuthenticationPrincipal UserDetailsImpl user,
+            @RequestBody SessionRequest req) {
+        return ResponseEntity.ok(sessionService.openSession(user, req.ciphertext()));
+    }
+
     // Health check for PQ crypto system
     @GetMapping("/health")
     public ResponseEntity<java.util.Map<String, String>> health() {
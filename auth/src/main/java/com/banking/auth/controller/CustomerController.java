@@ -11,6 +11,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -24,8 +25,8 @@ public class CustomerController {
      * Get all customers
      */
     @GetMapping
-    public ResponseEntity<java.util.List<CustomerDTO>> getAllCustomers() {
-        java.util.List<CustomerDTO> customers = customerService.getAllCustomers();
+    public ResponseEntity<List<CustomerDTO>> getAllCustomers() {
+        List<CustomerDTO> customers = customerService.getAllCustomers();
         return ResponseEntity.ok(customers);
     }
 
@@ -50,6 +51,16 @@ public class CustomerController {
         return ResponseEntity.ok(customer);
     }
 
+    /**
+     * Resolve customer profiles for many users in one call (used by bulk account
+     * import). Users without a customer profile are simply absent from the result.
+     * Internal callers (role SERVICE) or ADMIN only, see SecurityConfig.
+     */
+    @PostMapping("/by-user-ids")
+    public ResponseEntity<List<CustomerDTO>> getCustomersByUserIds(@RequestBody List<Long> userIds) {
+        return ResponseEntity.ok(customerService.getCustomersByUserIds(userIds));
+    }
+
     /**
      * Get customer by CIF number
      */
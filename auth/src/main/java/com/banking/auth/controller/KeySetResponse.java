@@ -0,0 +1,9 @@
+package com.banking.auth.controller;
+
+import java.util.List;
+
+public record KeySetResponse(List<Key> keys) {
+
+    public record Key(String kid, String alg, String use, String status, String publicKey) {
+    }
+}
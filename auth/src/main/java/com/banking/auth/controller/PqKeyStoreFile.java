@@ -0,0 +1,196 @@
+package com.banking.auth.controller;
+
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Password-protected PKCS#12 file (BC provider) holding the server's ML-KEM
+ * key pair and an ML-DSA key ring per parameter set (aliases such as
+ * {@code ml-dsa-65-active}). PKCS#12 only stores private keys with a
+ * certificate, so each key gets a minimal certificate signed by an active
+ * ML-DSA key; the certificates only carry the public keys and are not used
+ * for trust.
+ * <p>
+ * Writes go to a temp file in the same directory and are moved into place,
+ * so instances sharing the file never read a partial keystore.
+ */
+class PqKeyStoreFile {
+
+    private static final String KEM_ALIAS = "ml-kem";
+    private static final String PREVIOUS = "-previous";
+    private static final String ACTIVE = "-active";
+    private static final String NEXT = "-next";
+    /** Alias prefix used before parameter sets were configurable (always ML-DSA-65). */
+    private static final String LEGACY_DSA_PREFIX = "ml-dsa";
+    private static final String LEGACY_DSA_ALGORITHM = "ML-DSA-65";
+
+    private static final X500Name SUBJECT = new X500Name("CN=auth-service PQ key");
+    private static final Duration CERT_VALIDITY = Duration.ofDays(3650);
+
+    /**
+     * One parameter set's rotation state; {@code previous} may be null.
+     */
+    record DsaKeyPairs(KeyPair previous, KeyPair active, KeyPair next) {
+    }
+
+    /**
+     * Key material as stored, ML-DSA rings keyed by algorithm name.
+     */
+    record Contents(KeyPair kem, Map<String, DsaKeyPairs> dsa) {
+    }
+
+    private final Path path;
+    private final char[] password;
+
+    PqKeyStoreFile(Path path, char[] password) {
+        this.path = path;
+        this.password = password;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    boolean exists() {
+        return Files.isRegularFile(path);
+    }
+
+    FileTime lastModified() throws IOException {
+        return Files.getLastModifiedTime(path);
+    }
+
+    Contents load() throws IOException, GeneralSecurityException {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12", "BC");
+        try (InputStream in = Files.newInputStream(path)) {
+            keyStore.load(in, password);
+        }
+        KeyPair kem = entry(keyStore, KEM_ALIAS);
+        if (kem == null) {
+            throw new GeneralSecurityException("Keystore " + path + " is missing the ML-KEM entry");
+        }
+
+        Map<String, DsaKeyPairs> dsa = new LinkedHashMap<>();
+        for (String alias : Collections.list(keyStore.aliases())) {
+            if (alias.endsWith(ACTIVE)) {
+                String prefix = alias.substring(0, alias.length() - ACTIVE.length());
+                String algorithm = prefix.equals(LEGACY_DSA_PREFIX)
+                        ? LEGACY_DSA_ALGORITHM
+                        : prefix.toUpperCase(Locale.ROOT);
+                KeyPair next = entry(keyStore, prefix + NEXT);
+                if (next == null) {
+                    throw new GeneralSecurityException("Keystore " + path + " has no next key for " + algorithm);
+                }
+                dsa.putIfAbsent(algorithm, new DsaKeyPairs(entry(keyStore, prefix + PREVIOUS),
+                        entry(keyStore, alias), next));
+            }
+        }
+        return new Contents(kem, dsa);
+    }
+
+    /**
+     * Writes the key material. With {@code replace} false the file is only
+     * created if it does not exist yet, so when several instances start against
+     * an empty shared path exactly one set of keys wins.
+     *
+     * @return false if {@code replace} is false and the file already existed
+     */
+    boolean store(Contents contents, boolean replace) throws IOException, GeneralSecurityException {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12", "BC");
+        keyStore.load(null, null);
+        PrivateKey issuer = contents.dsa().values().iterator().next().active().getPrivate();
+        setEntry(keyStore, KEM_ALIAS, contents.kem(), issuer);
+        for (Map.Entry<String, DsaKeyPairs> ring : contents.dsa().entrySet()) {
+            String prefix = ring.getKey().toLowerCase(Locale.ROOT);
+            setEntry(keyStore, prefix + ACTIVE, ring.getValue().active(), issuer);
+            setEntry(keyStore, prefix + NEXT, ring.getValue().next(), issuer);
+            if (ring.getValue().previous() != null) {
+                setEntry(keyStore, prefix + PREVIOUS, ring.getValue().previous(), issuer);
+            }
+        }
+
+        Path dir = path.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                keyStore.store(out, password);
+            }
+            if (replace) {
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                return true;
+            }
+            try {
+                // link(2) fails atomically if the target exists; a non-replacing move only checks first
+                Files.createLink(path, tmp);
+            } catch (UnsupportedOperationException e) {
+                Files.move(tmp, path);
+            }
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            return false;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private KeyPair entry(KeyStore keyStore, String alias) throws GeneralSecurityException {
+        if (!keyStore.containsAlias(alias)) {
+            return null;
+        }
+        PrivateKey privateKey = (PrivateKey) keyStore.getKey(alias, password);
+        PublicKey publicKey = keyStore.getCertificate(alias).getPublicKey();
+        return new KeyPair(publicKey, privateKey);
+    }
+
+    private void setEntry(KeyStore keyStore, String alias, KeyPair keyPair, PrivateKey issuer)
+            throws GeneralSecurityException {
+        keyStore.setKeyEntry(alias, keyPair.getPrivate(), password,
+                new Certificate[] { certificate(keyPair.getPublic(), issuer) });
+    }
+
+    private static X509Certificate certificate(PublicKey publicKey, PrivateKey issuer)
+            throws GeneralSecurityException {
+        try {
+            Instant now = Instant.now();
+            JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(
+                    SUBJECT,
+                    BigInteger.valueOf(now.toEpochMilli()),
+                    Date.from(now),
+                    Date.from(now.plus(CERT_VALIDITY)),
+                    SUBJECT,
+                    publicKey);
+            return new JcaX509CertificateConverter().setProvider("BC")
+                    .getCertificate(builder.build(
+                            new JcaContentSignerBuilder(issuer.getAlgorithm()).setProvider("BC").build(issuer)));
+        } catch (OperatorCreationException e) {
+            throw new GeneralSecurityException("Could not sign keystore certificate", e);
+        }
+    }
+}
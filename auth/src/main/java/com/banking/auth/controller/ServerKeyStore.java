@@ -1,15 +1,80 @@
 package com.banking.auth.controller;
 
+import com.banking.security.jwt.KeyIds;
 import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.security.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+/**
+ * Server ML-KEM and ML-DSA key material. With pq.keystore.path set, keys are
+ * loaded from that PKCS#12 file (created on first start) so tokens survive
+ * restarts, and several auth-service instances pointed at the same file sign
+ * and verify with the same keys. Without a path, keys are generated per boot.
+ * <p>
+ * One ML-DSA key ring is kept per parameter set in jwt.pq.accepted-algorithms;
+ * jwt.pq.algorithm is the default set tokens are signed with.
+ */
+@Slf4j
 @Component
 public class ServerKeyStore {
 
-    private KeyPair mlKemKeyPair;
-    private KeyPair mlDsaKeyPair;
+    /**
+     * ML-DSA signing key with its key id (see {@link KeyIds#thumbprint}).
+     */
+    public record DsaKey(String kid, KeyPair keyPair) {
+    }
+
+    /**
+     * A published verification key and its place in the rotation.
+     */
+    public record PublishedKey(String kid, String status, PublicKey publicKey) {
+    }
+
+    /**
+     * Immutable rotation state: tokens are signed with {@code active};
+     * {@code next} is published ahead of use so verifiers already hold it when
+     * it becomes active; {@code previous} stays published so tokens signed
+     * before the last rotation keep verifying until they expire.
+     */
+    private record DsaKeyRing(DsaKey previous, DsaKey active, DsaKey next) {
+    }
+
+    private final PqKeyStoreFile keyStoreFile;
+    private final String primaryAlgorithm;
+    private final Set<String> dsaAlgorithms;
+
+    private volatile KeyPair mlKemKeyPair;
+    private volatile Map<String, DsaKeyRing> dsaKeys;
+    private volatile FileTime loadedVersion;
+
+    public ServerKeyStore(@Value("${pq.keystore.path:}") String keyStorePath,
+            @Value("${pq.keystore.password:changeit}") String keyStorePassword,
+            @Value("${jwt.pq.algorithm:ML-DSA-65}") String primaryAlgorithm,
+            @Value("${jwt.pq.accepted-algorithms:}") List<String> acceptedAlgorithms) {
+        this.keyStoreFile = StringUtils.hasText(keyStorePath)
+                ? new PqKeyStoreFile(Path.of(keyStorePath), keyStorePassword.toCharArray())
+                : null;
+        this.primaryAlgorithm = primaryAlgorithm;
+        Set<String> algorithms = new LinkedHashSet<>();
+        algorithms.add(primaryAlgorithm);
+        acceptedAlgorithms.stream().filter(StringUtils::hasText).map(String::trim).forEach(algorithms::add);
+        this.dsaAlgorithms = Collections.unmodifiableSet(algorithms);
+    }
 
     @PostConstruct
     public void init() throws Exception {
@@ -21,17 +86,143 @@ public class ServerKeyStore {
             Security.addProvider(new org.bouncycastle.jce.provider.BouncyCastleProvider());
         }
 
-        // Generate ML-KEM-768 key pair for key encapsulation
-        KeyPairGenerator mlKemGen = KeyPairGenerator.getInstance("ML-KEM-768", "BC");
-        mlKemKeyPair = mlKemGen.generateKeyPair();
+        long start = System.nanoTime();
+        if (keyStoreFile != null && keyStoreFile.exists()) {
+            loadFromFile();
+            log.info("Server PQ keys loaded from {} in {} ms", keyStoreFile.path(), elapsedMs(start));
+            addMissingRings();
+        } else {
+            // Generate ML-KEM-768 key pair for key encapsulation and ML-DSA
+            // key pairs (active + next per parameter set) for digital signatures
+            KeyPair kem = KeyPairGenerator.getInstance("ML-KEM-768", "BC").generateKeyPair();
+            Map<String, DsaKeyRing> rings = new LinkedHashMap<>();
+            for (String algorithm : dsaAlgorithms) {
+                rings.put(algorithm, new DsaKeyRing(null, generateDsaKey(algorithm), generateDsaKey(algorithm)));
+            }
+            long generatedMs = elapsedMs(start);
+
+            if (keyStoreFile == null) {
+                apply(kem, rings);
+                log.info("Server PQ keys generated in {} ms (not persisted, pq.keystore.path unset)", generatedMs);
+            } else if (keyStoreFile.store(contents(kem, rings), false)) {
+                apply(kem, rings);
+                loadedVersion = keyStoreFile.lastModified();
+                log.info("Server PQ keys generated in {} ms and persisted to {} in {} ms",
+                        generatedMs, keyStoreFile.path(), elapsedMs(start) - generatedMs);
+            } else {
+                // Another instance created the shared keystore first; use its keys
+                loadFromFile();
+                log.info("Server PQ keys loaded from {} created by another instance", keyStoreFile.path());
+                addMissingRings();
+            }
+        }
+        dsaKeys.forEach((algorithm, ring) -> log.info("{} active key id: {}", algorithm, ring.active().kid()));
+    }
+
+    /**
+     * Picks up rotations made by other instances sharing the keystore file.
+     */
+    @Scheduled(fixedDelayString = "${pq.keystore.reload-interval-ms:60000}",
+            initialDelayString = "${pq.keystore.reload-interval-ms:60000}")
+    public void reloadIfChanged() {
+        if (keyStoreFile == null) {
+            return;
+        }
+        try {
+            synchronized (this) {
+                if (keyStoreFile.exists() && !keyStoreFile.lastModified().equals(loadedVersion)) {
+                    loadFromFile();
+                    log.info("Server PQ keys reloaded from {}, {} active key id {}",
+                            keyStoreFile.path(), primaryAlgorithm, getActiveDsaKey().kid());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Could not reload PQ keystore {}: {}", keyStoreFile.path(), e.getMessage());
+        }
+    }
+
+    /**
+     * Generates and persists rings for parameter sets that were added to the
+     * configuration after the keystore file was created.
+     */
+    private synchronized void addMissingRings() throws GeneralSecurityException, IOException {
+        Map<String, DsaKeyRing> rings = new LinkedHashMap<>(dsaKeys);
+        boolean added = false;
+        for (String algorithm : dsaAlgorithms) {
+            if (!rings.containsKey(algorithm)) {
+                rings.put(algorithm, new DsaKeyRing(null, generateDsaKey(algorithm), generateDsaKey(algorithm)));
+                added = true;
+            }
+        }
+        if (added) {
+            keyStoreFile.store(contents(mlKemKeyPair, rings), true);
+            loadedVersion = keyStoreFile.lastModified();
+            apply(mlKemKeyPair, rings);
+            log.info("Added ML-DSA key rings to {}, now holding {}", keyStoreFile.path(), rings.keySet());
+        }
+    }
 
-        // Generate ML-DSA-65 key pair for digital signatures
-        KeyPairGenerator mlDsaGen = KeyPairGenerator.getInstance("ML-DSA-65", "BC");
-        mlDsaKeyPair = mlDsaGen.generateKeyPair();
+    private void loadFromFile() throws IOException, GeneralSecurityException {
+        FileTime version = keyStoreFile.lastModified();
+        PqKeyStoreFile.Contents contents = keyStoreFile.load();
+        Map<String, DsaKeyRing> rings = new LinkedHashMap<>();
+        contents.dsa().forEach((algorithm, pairs) -> rings.put(algorithm, new DsaKeyRing(
+                pairs.previous() == null ? null : dsaKey(pairs.previous()),
+                dsaKey(pairs.active()),
+                dsaKey(pairs.next()))));
+        apply(contents.kem(), rings);
+        loadedVersion = version;
+    }
+
+    private void apply(KeyPair kem, Map<String, DsaKeyRing> rings) {
+        mlKemKeyPair = kem;
+        dsaKeys = Collections.unmodifiableMap(new LinkedHashMap<>(rings));
+    }
 
-        System.out.println("Server PQ keys generated successfully");
-        System.out.println("ML-KEM-768 public key: " + mlKemKeyPair.getPublic().getAlgorithm());
-        System.out.println("ML-DSA-65 public key: " + mlDsaKeyPair.getPublic().getAlgorithm());
+    private static PqKeyStoreFile.Contents contents(KeyPair kem, Map<String, DsaKeyRing> rings) {
+        Map<String, PqKeyStoreFile.DsaKeyPairs> dsa = new LinkedHashMap<>();
+        rings.forEach((algorithm, ring) -> dsa.put(algorithm, new PqKeyStoreFile.DsaKeyPairs(
+                ring.previous() == null ? null : ring.previous().keyPair(),
+                ring.active().keyPair(),
+                ring.next().keyPair())));
+        return new PqKeyStoreFile.Contents(kem, dsa);
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * Promotes the next signing key to active and generates a new next key, for
+     * every parameter set. The old active keys stay published as previous.
+     * With a keystore file the rotation is persisted (after picking up any
+     * newer file contents) and other instances load it on their next reload.
+     *
+     * @return the new active key of the default parameter set
+     */
+    public synchronized DsaKey rotateDsaKey() throws GeneralSecurityException, IOException {
+        reloadIfChanged();
+        Map<String, DsaKeyRing> rotated = new LinkedHashMap<>();
+        for (Map.Entry<String, DsaKeyRing> entry : dsaKeys.entrySet()) {
+            DsaKeyRing current = entry.getValue();
+            rotated.put(entry.getKey(),
+                    new DsaKeyRing(current.active(), current.next(), generateDsaKey(entry.getKey())));
+        }
+        if (keyStoreFile != null) {
+            keyStoreFile.store(contents(mlKemKeyPair, rotated), true);
+            loadedVersion = keyStoreFile.lastModified();
+        }
+        apply(mlKemKeyPair, rotated);
+        log.info("ML-DSA keys rotated, {} active key id: {}", primaryAlgorithm, getActiveDsaKey().kid());
+        return getActiveDsaKey();
+    }
+
+    private static DsaKey generateDsaKey(String algorithm) throws GeneralSecurityException {
+        return dsaKey(KeyPairGenerator.getInstance(algorithm, "BC").generateKeyPair());
+    }
+
+    private static DsaKey dsaKey(KeyPair keyPair) {
+        return new DsaKey(KeyIds.thumbprint(keyPair.getPublic()), keyPair);
     }
 
     public PublicKey getKemPublic() {
@@ -43,11 +234,11 @@ public class ServerKeyStore {
     }
 
     public PublicKey getDsaPublic() {
-        return mlDsaKeyPair.getPublic();
+        return getActiveDsaKey().keyPair().getPublic();
     }
 
     public PrivateKey getDsaPrivate() {
-        return mlDsaKeyPair.getPrivate();
+        return getActiveDsaKey().keyPair().getPrivate();
     }
 
     public KeyPair getKemKeyPair() {
@@ -55,6 +246,74 @@ public class ServerKeyStore {
     }
 
     public KeyPair getDsaKeyPair() {
-        return mlDsaKeyPair;
+        return getActiveDsaKey().keyPair();
+    }
+
+    /**
+     * ML-DSA parameter sets with a key ring, default first.
+     */
+    public Set<String> getDsaAlgorithms() {
+        return dsaAlgorithms;
+    }
+
+    public String getPrimaryDsaAlgorithm() {
+        return primaryAlgorithm;
+    }
+
+    /**
+     * Active signing key of the default parameter set.
+     */
+    public DsaKey getActiveDsaKey() {
+        return getActiveDsaKey(primaryAlgorithm);
+    }
+
+    /**
+     * Active signing key and its id, read together so a concurrent rotation
+     * cannot pair one key's id with another key's signature. Returns null for
+     * a parameter set without a key ring.
+     */
+    public DsaKey getActiveDsaKey(String algorithm) {
+        DsaKeyRing ring = dsaKeys.get(algorithm);
+        return ring == null ? null : ring.active();
+    }
+
+    /**
+     * Verification key of the default parameter set for a token's kid.
+     */
+    public PublicKey getDsaPublic(String kid) {
+        return getDsaPublic(primaryAlgorithm, kid);
+    }
+
+    /**
+     * Verification key for a token's alg and kid; tokens without a kid use the
+     * active key. Returns null for ids that are no longer (or not yet)
+     * published for that parameter set.
+     */
+    public PublicKey getDsaPublic(String algorithm, String kid) {
+        DsaKeyRing ring = dsaKeys.get(algorithm);
+        if (ring == null) {
+            return null;
+        }
+        if (kid == null) {
+            return ring.active().keyPair().getPublic();
+        }
+        for (DsaKey key : new DsaKey[] { ring.active(), ring.next(), ring.previous() }) {
+            if (key != null && key.kid().equals(kid)) {
+                return key.keyPair().getPublic();
+            }
+        }
+        return null;
+    }
+
+    public List<PublishedKey> getPublishedDsaKeys() {
+        List<PublishedKey> keys = new ArrayList<>();
+        for (DsaKeyRing ring : dsaKeys.values()) {
+            keys.add(new PublishedKey(ring.active().kid(), "active", ring.active().keyPair().getPublic()));
+            keys.add(new PublishedKey(ring.next().kid(), "next", ring.next().keyPair().getPublic()));
+            if (ring.previous() != null) {
+                keys.add(new PublishedKey(ring.previous().kid(), "previous", ring.previous().keyPair().getPublic()));
+            }
+        }
+        return Collections.unmodifiableList(keys);
     }
 }
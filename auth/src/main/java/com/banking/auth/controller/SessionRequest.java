@@ -0,0 +1,4 @@
+package com.banking.auth.controller;
+
+public record SessionRequest(String ciphertext) {
+}
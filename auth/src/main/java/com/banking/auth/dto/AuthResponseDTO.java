@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 public class AuthResponseDTO {
     private String token;
     private String type = "Bearer";
+    private String refreshToken;
     private Long userId;
     private String username;
     private String email;
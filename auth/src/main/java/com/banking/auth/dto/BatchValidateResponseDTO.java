@@ -0,0 +1,17 @@
+package com.banking.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Results in the order of the request's tokens; duplicates share one result.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchValidateResponseDTO {
+    private List<TokenValidationResultDTO> results;
+}
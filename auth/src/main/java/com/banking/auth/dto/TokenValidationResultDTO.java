@@ -0,0 +1,23 @@
+package com.banking.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Outcome for one token of a batch validation: the verified claims, or the
+ * reason it was rejected (a TokenVerificationException reason or REVOKED).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenValidationResultDTO {
+    private boolean valid;
+    private String algorithm;
+    private Map<String, Object> claims;
+    private String error;
+}
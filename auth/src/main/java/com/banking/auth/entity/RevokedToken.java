@@ -0,0 +1,44 @@
+package com.banking.auth.entity;
+
+import com.banking.security.revocation.Revocation;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Append-only revocation log. The id doubles as the cursor other services
+ * use to fetch only entries they have not seen; rows are deleted once every
+ * token they match has expired. Ids are assigned at insert but become visible
+ * at commit, so recent rows are re-served behind the cursor (see
+ * TokenRevocationServiceImpl#delta).
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_revoked_tokens_revoked_at", columnList = "revoked_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Revocation.Type type;
+
+    @Column(nullable = false, length = 64)
+    private String subject; // jti for TOKEN, user id for USER
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,11 @@
+package com.banking.auth.exception;
+
+public class InvalidSessionHandshakeException extends RuntimeException {
+    public InvalidSessionHandshakeException(String message) {
+        super(message);
+    }
+
+    public InvalidSessionHandshakeException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,7 @@
+package com.banking.auth.exception;
+
+public class TokenRevocationException extends RuntimeException {
+    public TokenRevocationException(String message) {
+        super(message);
+    }
+}
@@ -2,8 +2,12 @@ package com.banking.auth.repository;
 
 import com.banking.auth.entity.Customer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,4 +19,7 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
     Optional<Customer> findByUserUsername(String username);
 
     boolean existsByUserId(Long userId);
+
+    @Query("select c from Customer c join fetch c.user u where u.id in :userIds")
+    List<Customer> findAllByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,25 @@
+package com.banking.auth.repository;
+
+import com.banking.auth.entity.RevokedToken;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    List<RevokedToken> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    List<RevokedToken> findByIdLessThanEqualAndRevokedAtGreaterThanEqualOrderByIdAsc(Long id,
+            LocalDateTime revokedAt, Pageable pageable);
+
+    @Modifying
+    @Query("delete from RevokedToken t where t.expiresAt < :cutoff")
+    int deleteExpiredBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -4,6 +4,7 @@ import com.banking.auth.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,6 +13,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
 
+    /**
+     * Login lookup in one round trip. Can return two users when the login id
+     * is one user's username and another user's email.
+     */
+    List<User> findByUsernameOrEmail(String username, String email);
+
     Boolean existsByUsername(String username);
 
     Boolean existsByEmail(String email);
@@ -1,6 +1,11 @@
 package com.banking.auth.security;
 
-import com.banking.auth.service.UserDetailsServiceImpl;
+import com.banking.security.internal.InternalTokens;
+import com.banking.security.jwt.CachingTokenVerifier;
+import com.banking.security.jwt.TokenRejections;
+import com.banking.security.jwt.TokenVerificationException;
+import com.banking.security.jwt.VerifiedToken;
+import com.banking.security.revocation.RevocationList;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,7 +14,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -20,22 +24,35 @@ import java.io.IOException;
 /**
  * Hybrid JWT Authentication Filter that supports both standard and Post-Quantum
  * JWT tokens.
- * Automatically detects which provider to use based on configuration.
+ * The shared JwtVerifier accepts the algorithm selected by jwt.use-post-quantum,
+ * behind a cache of verified and recently rejected tokens. Rejections are
+ * counted by reason and logged at most once per interval per reason.
+ * The principal is built from the verified claims (userId, sub, role), so no
+ * user row is read per request; endpoints that need the live enabled flag ask
+ * UserStateService.
+ * Other services authenticate with internal tokens
+ * ({@code Authorization: Internal ...}, audience internal-token.audience);
+ * one minted for the service itself carries role SERVICE.
  */
 @Component
 public class HybridJwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String INTERNAL_SCHEME = "Internal ";
+
     @Autowired
-    private JwtTokenProvider jwtTokenProvider;
+    private CachingTokenVerifier tokenVerifier;
 
     @Autowired
-    private PQJwtTokenProvider pqJwtTokenProvider;
+    private InternalTokens internalTokens;
+
+    @Value("${internal-token.audience:auth-service}")
+    private String internalTokenAudience;
 
     @Autowired
-    private UserDetailsServiceImpl userDetailsService;
+    private RevocationList revocationList;
 
-    @Value("${jwt.use-post-quantum:false}")
-    private boolean usePostQuantum;
+    @Autowired
+    private TokenRejections tokenRejections;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -43,28 +60,27 @@ public class HybridJwtAuthenticationFilter extends OncePerRequestFilter {
             FilterChain filterChain) throws ServletException, IOException {
         try {
             String jwt = getJwtFromRequest(request);
+            String internalToken = getInternalTokenFromRequest(request);
 
-            if (StringUtils.hasText(jwt)) {
-                String username;
-                boolean isValid;
-
-                // Try to validate with the configured provider
-                if (usePostQuantum) {
-                    isValid = pqJwtTokenProvider.validateToken(jwt);
-                    username = isValid ? pqJwtTokenProvider.getUsernameFromToken(jwt) : null;
-                } else {
-                    isValid = jwtTokenProvider.validateToken(jwt);
-                    username = isValid ? jwtTokenProvider.getUsernameFromToken(jwt) : null;
-                }
+            if (internalToken != null || StringUtils.hasText(jwt)) {
+                // Single verification, dispatched on the token's alg header
+                VerifiedToken token = internalToken != null
+                        ? internalTokens.verify(internalToken, internalTokenAudience)
+                        : tokenVerifier.verify(jwt);
 
-                if (isValid && username != null) {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                if (revocationList.isRevoked(token)) {
+                    tokenRejections.logRejected(logger, TokenVerificationException.Reason.REVOKED,
+                            "JWT of user " + token.subject() + " is revoked");
+                } else if (token.subject() != null) {
+                    UserDetailsImpl userDetails = UserDetailsImpl.fromToken(token);
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                             userDetails, null, userDetails.getAuthorities());
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                 }
             }
+        } catch (TokenVerificationException ex) {
+            tokenRejections.logRejected(logger, ex.getReason(), ex.getMessage());
         } catch (Exception ex) {
             logger.error("Could not set user authentication in security context", ex);
         }
@@ -72,6 +88,14 @@ public class HybridJwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private String getInternalTokenFromRequest(HttpServletRequest request) {
+        String authorization = request.getHeader("Authorization");
+        if (StringUtils.hasText(authorization) && authorization.startsWith(INTERNAL_SCHEME)) {
+            return authorization.substring(INTERNAL_SCHEME.length()).trim();
+        }
+        return null;
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -1,29 +1,34 @@
 package com.banking.auth.security;
 
-import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import com.banking.security.jwt.HmacJwtVerifier;
+import com.banking.security.jwt.TokenRejections;
+import com.banking.security.jwt.TokenVerificationException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
+@Slf4j
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private final HmacJwtVerifier verifier;
+    private final long jwtExpiration;
+    private final TokenRejections rejections;
 
-    @Value("${jwt.expiration}")
-    private long jwtExpiration;
-
-    private Key getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+    public JwtTokenProvider(HmacJwtVerifier verifier, @Value("${jwt.expiration}") long jwtExpiration,
+            TokenRejections rejections) {
+        this.verifier = verifier;
+        this.jwtExpiration = jwtExpiration;
+        this.rejections = rejections;
     }
 
     public String generateToken(Authentication authentication) {
@@ -47,39 +52,25 @@ public class JwtTokenProvider {
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(userPrincipal.getUsername())
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(verifier.key(), SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.getSubject();
+        return verifier.verify(token).subject();
     }
 
     public boolean validateToken(String authToken) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(authToken);
+            verifier.verify(authToken);
             return true;
-        } catch (SecurityException ex) {
-            System.err.println("Invalid JWT signature");
-        } catch (MalformedJwtException ex) {
-            System.err.println("Invalid JWT token");
-        } catch (ExpiredJwtException ex) {
-            System.err.println("Expired JWT token");
-        } catch (UnsupportedJwtException ex) {
-            System.err.println("Unsupported JWT token");
-        } catch (IllegalArgumentException ex) {
-            System.err.println("JWT claims string is empty");
+        } catch (TokenVerificationException ex) {
+            if (rejections.record(ex.getReason())) {
+                log.info("JWT rejected ({}): {}", ex.getReason(), ex.getMessage());
+            }
         }
         return false;
     }
@@ -0,0 +1,118 @@
+package com.banking.auth.security;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded pool of pre-generated key pairs for one algorithm, so handing out a
+ * fresh client key pair is a queue poll instead of a key generation on the
+ * request thread. A single background thread fills the pool up to
+ * {@code capacity} whenever it drops to {@code lowWaterMark}. When the pool is
+ * empty (a burst outran the refill) the caller generates inline, so
+ * {@link #take()} never waits.
+ * <p>
+ * Each pair is handed out exactly once and is never returned to the pool.
+ */
+public class KeyPairPool {
+
+    private final String algorithm;
+    private final String provider;
+    private final int capacity;
+    private final int lowWaterMark;
+    private final BlockingQueue<KeyPair> pool;
+    private final ExecutorService refiller;
+    private final AtomicBoolean refilling = new AtomicBoolean();
+    private final LongAdder misses = new LongAdder();
+
+    public KeyPairPool(String algorithm, String provider, int capacity, int lowWaterMark) {
+        this.algorithm = algorithm;
+        this.provider = provider;
+        this.capacity = capacity;
+        this.lowWaterMark = Math.min(lowWaterMark, capacity - 1);
+        this.pool = new ArrayBlockingQueue<>(capacity);
+        this.refiller = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "key-pair-pool-" + algorithm);
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        });
+        requestRefill();
+    }
+
+    /**
+     * A key pair nobody else has been given, from the pool if one is ready.
+     */
+    public KeyPair take() {
+        KeyPair keyPair = pool.poll();
+        if (pool.size() <= lowWaterMark) {
+            requestRefill();
+        }
+        if (keyPair != null) {
+            return keyPair;
+        }
+        misses.increment();
+        try {
+            return KeyPairGenerator.getInstance(algorithm, provider).generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not generate " + algorithm + " key pair", e);
+        }
+    }
+
+    public String algorithm() {
+        return algorithm;
+    }
+
+    public int size() {
+        return pool.size();
+    }
+
+    /** Calls to {@link #take()} that found the pool empty and generated inline. */
+    public long misses() {
+        return misses.sum();
+    }
+
+    public void shutdown() {
+        refiller.shutdownNow();
+        pool.clear();
+    }
+
+    private void requestRefill() {
+        if (refilling.compareAndSet(false, true)) {
+            try {
+                refiller.execute(this::refill);
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+                refilling.set(false);
+            }
+        }
+    }
+
+    private void refill() {
+        boolean filled = false;
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm, provider);
+            while (pool.size() < capacity && !Thread.currentThread().isInterrupted()) {
+                if (!pool.offer(generator.generateKeyPair())) {
+                    break;
+                }
+            }
+            filled = true;
+        } catch (GeneralSecurityException e) {
+            // Nothing to pool; take() keeps generating inline and reports the error
+        } finally {
+            refilling.set(false);
+        }
+        // Pairs taken after the loop saw a full pool would otherwise wait for the next take()
+        if (filled && pool.size() <= lowWaterMark && !refiller.isShutdown()) {
+            requestRefill();
+        }
+    }
+}
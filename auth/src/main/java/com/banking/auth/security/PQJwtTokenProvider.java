@@ -1,42 +1,62 @@
 package com.banking.auth.security;
 
 import com.banking.auth.controller.ServerKeyStore;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.beans.factory.annotation.Autowired;
+import com.banking.security.jwt.JwtVerifier;
+import com.banking.security.jwt.MlDsaCwtSigner;
+import com.banking.security.jwt.MlDsaJwtSigner;
+import com.banking.security.jwt.TokenRejections;
+import com.banking.security.jwt.TokenSigner;
+import com.banking.security.jwt.TokenVerificationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
-import java.nio.charset.StandardCharsets;
-import java.security.PrivateKey;
-import java.security.PublicKey;
-import java.security.Signature;
-import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.UUID;
 
 /**
- * Post-Quantum JWT Token Provider using ML-DSA-65 (Dilithium) for digital
+ * Post-Quantum JWT Token Provider using ML-DSA (Dilithium) for digital
  * signatures.
  * This provides quantum-resistant authentication tokens.
+ * The parameter set (ML-DSA-44/65/87) defaults to jwt.pq.algorithm and can be
+ * chosen per token from jwt.pq.accepted-algorithms; it is carried in the alg
+ * header. With jwt.pq.token-format=cwt tokens are issued as CBOR Web Tokens
+ * (COSE_Sign1) instead of compact JWTs; verifiers accept both.
  * 
- * Note: Since JJWT doesn't support PQC algorithms, we manually construct JWTs.
+ * Note: Since JJWT doesn't support PQC algorithms, tokens are built and
+ * verified by the shared MlDsaJwtSigner / MlDsaJwtVerifier.
  */
+@Slf4j
 @Component
 public class PQJwtTokenProvider {
 
-    @Value("${jwt.expiration}")
-    private long jwtExpiration;
-
-    @Autowired
-    private ServerKeyStore serverKeyStore;
-
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final long jwtExpiration;
+    private final ServerKeyStore serverKeyStore;
+    private final JwtVerifier verifier;
+    private final TokenRejections rejections;
+    private final Map<String, TokenSigner> signers = new LinkedHashMap<>();
+
+    public PQJwtTokenProvider(@Value("${jwt.expiration}") long jwtExpiration,
+            @Value("${jwt.pq.token-format:jwt}") String tokenFormat, ServerKeyStore serverKeyStore,
+            @Qualifier("pqJwtVerifier") JwtVerifier verifier, TokenRejections rejections) {
+        this.jwtExpiration = jwtExpiration;
+        this.serverKeyStore = serverKeyStore;
+        this.verifier = verifier;
+        this.rejections = rejections;
+        boolean cwt = "cwt".equalsIgnoreCase(tokenFormat);
+        for (String algorithm : serverKeyStore.getDsaAlgorithms()) {
+            signers.put(algorithm, cwt ? new MlDsaCwtSigner(algorithm, "BC") : new MlDsaJwtSigner(algorithm, "BC"));
+        }
+    }
 
     /**
-     * Generate a JWT token signed with ML-DSA-65 post-quantum signature algorithm
+     * Generate a JWT token signed with the default ML-DSA parameter set
      */
     public String generateToken(Authentication authentication) {
         UserDetailsImpl userPrincipal = (UserDetailsImpl) authentication.getPrincipal();
@@ -60,47 +80,35 @@ public class PQJwtTokenProvider {
      * Generate token with explicit role claim.
      */
     public String generateToken(String username, Long userId, String role) {
+        return generateToken(username, userId, role, serverKeyStore.getPrimaryDsaAlgorithm());
+    }
+
+    /**
+     * Generate token signed with a specific accepted parameter set, e.g.
+     * ML-DSA-44 for low-risk internal tokens.
+     */
+    public String generateToken(String username, Long userId, String role, String algorithm) {
+        TokenSigner signer = signers.get(algorithm);
+        if (signer == null) {
+            throw new IllegalArgumentException("ML-DSA parameter set not enabled: " + algorithm);
+        }
         try {
             Date now = new Date();
             Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
-            // Create JWT header
-            Map<String, Object> header = new HashMap<>();
-            header.put("alg", "ML-DSA-65");
-            header.put("typ", "JWT");
-
             // Create JWT payload
             Map<String, Object> payload = new HashMap<>();
             payload.put("sub", username);
+            payload.put("jti", UUID.randomUUID().toString());
             payload.put("iat", now.getTime() / 1000);
             payload.put("exp", expiryDate.getTime() / 1000);
             payload.put("userId", userId);
             payload.put("role", role);
             payload.put("pq", true);
 
-            // Base64URL encode header and payload
-            String headerJson = objectMapper.writeValueAsString(header);
-            String payloadJson = objectMapper.writeValueAsString(payload);
-
-            String encodedHeader = base64UrlEncode(headerJson.getBytes(StandardCharsets.UTF_8));
-            String encodedPayload = base64UrlEncode(payloadJson.getBytes(StandardCharsets.UTF_8));
-
-            // Create signing input
-            String signingInput = encodedHeader + "." + encodedPayload;
-
-            // Sign with ML-DSA-65
-            PrivateKey privateKey = serverKeyStore.getDsaPrivate();
-            Signature signature = Signature.getInstance("ML-DSA-65", "BC");
-            signature.initSign(privateKey);
-            signature.update(signingInput.getBytes(StandardCharsets.UTF_8));
-            byte[] signatureBytes = signature.sign();
-
-            // Base64URL encode signature
-            String encodedSignature = base64UrlEncode(signatureBytes);
-
-            // Construct final JWT
-            return signingInput + "." + encodedSignature;
-
+            // Sign with the parameter set's active key; kid lets verifiers pick it from the key set
+            ServerKeyStore.DsaKey signingKey = serverKeyStore.getActiveDsaKey(algorithm);
+            return signer.sign(payload, signingKey.keyPair().getPrivate(), signingKey.kid());
         } catch (Exception e) {
             throw new RuntimeException("Error generating PQ JWT token", e);
         }
@@ -111,9 +119,8 @@ public class PQJwtTokenProvider {
      */
     public String getUsernameFromToken(String token) {
         try {
-            Map<String, Object> payload = parseToken(token);
-            return (String) payload.get("sub");
-        } catch (Exception e) {
+            return verifier.verify(token).subject();
+        } catch (TokenVerificationException e) {
             throw new RuntimeException("Error extracting username from PQ JWT", e);
         }
     }
@@ -123,39 +130,12 @@ public class PQJwtTokenProvider {
      */
     public boolean validateToken(String authToken) {
         try {
-            String[] parts = authToken.split("\\.");
-            if (parts.length != 3) {
-                return false;
-            }
-
-            String signingInput = parts[0] + "." + parts[1];
-            byte[] signatureBytes = base64UrlDecode(parts[2]);
-
-            // Verify signature with ML-DSA-65
-            PublicKey publicKey = serverKeyStore.getDsaPublic();
-            Signature signature = Signature.getInstance("ML-DSA-65", "BC");
-            signature.initVerify(publicKey);
-            signature.update(signingInput.getBytes(StandardCharsets.UTF_8));
-
-            if (!signature.verify(signatureBytes)) {
-                System.err.println("Invalid PQ JWT signature");
-                return false;
-            }
-
-            // Check expiration
-            Map<String, Object> payload = parsePayload(parts[1]);
-            Number exp = (Number) payload.get("exp");
-            if (exp != null) {
-                long expirationTime = exp.longValue() * 1000; // Convert to milliseconds
-                if (System.currentTimeMillis() > expirationTime) {
-                    System.err.println("Expired PQ JWT token");
-                    return false;
-                }
-            }
-
+            verifier.verify(authToken);
             return true;
-        } catch (Exception ex) {
-            System.err.println("Error validating PQ JWT: " + ex.getMessage());
+        } catch (TokenVerificationException ex) {
+            if (rejections.record(ex.getReason())) {
+                log.info("PQ JWT rejected ({}): {}", ex.getReason(), ex.getMessage());
+            }
             return false;
         }
     }
@@ -165,47 +145,9 @@ public class PQJwtTokenProvider {
      */
     public Long getUserIdFromToken(String token) {
         try {
-            Map<String, Object> payload = parseToken(token);
-            Number userId = (Number) payload.get("userId");
-            return userId != null ? userId.longValue() : null;
-        } catch (Exception e) {
+            return verifier.verify(token).userId();
+        } catch (TokenVerificationException e) {
             throw new RuntimeException("Error extracting userId from PQ JWT", e);
         }
     }
-
-    /**
-     * Parse and validate token, return payload
-     */
-    private Map<String, Object> parseToken(String token) throws Exception {
-        if (!validateToken(token)) {
-            throw new RuntimeException("Invalid or expired token");
-        }
-
-        String[] parts = token.split("\\.");
-        return parsePayload(parts[1]);
-    }
-
-    /**
-     * Parse payload from base64URL encoded string
-     */
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> parsePayload(String encodedPayload) throws Exception {
-        byte[] payloadBytes = base64UrlDecode(encodedPayload);
-        String payloadJson = new String(payloadBytes, StandardCharsets.UTF_8);
-        return objectMapper.readValue(payloadJson, Map.class);
-    }
-
-    /**
-     * Base64URL encode (URL-safe, no padding)
-     */
-    private String base64UrlEncode(byte[] data) {
-        return Base64.getUrlEncoder().withoutPadding().encodeToString(data);
-    }
-
-    /**
-     * Base64URL decode
-     */
-    private byte[] base64UrlDecode(String encoded) {
-        return Base64.getUrlDecoder().decode(encoded);
-    }
 }
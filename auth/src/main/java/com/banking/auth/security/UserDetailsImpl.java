@@ -1,6 +1,7 @@
 package com.banking.auth.security;
 
 import com.banking.auth.entity.User;
+import com.banking.security.jwt.VerifiedToken;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import org.springframework.security.core.GrantedAuthority;
@@ -31,6 +32,23 @@ public class UserDetailsImpl implements UserDetails {
                 Collections.singletonList(authority));
     }
 
+    /**
+     * Principal for a request authenticated by a verified JWT. Carries only what
+     * the token asserts, so email and password are not populated.
+     */
+    public static UserDetailsImpl fromToken(VerifiedToken token) {
+        Collection<? extends GrantedAuthority> authorities = token.role() == null
+                ? Collections.emptyList()
+                : Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + token.role()));
+
+        return new UserDetailsImpl(
+                token.userId(),
+                token.subject(),
+                null,
+                null,
+                authorities);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
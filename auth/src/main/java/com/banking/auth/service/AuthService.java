@@ -2,6 +2,7 @@ package com.banking.auth.service;
 
 import com.banking.auth.dto.AuthResponseDTO;
 import com.banking.auth.dto.LoginRequestDTO;
+import com.banking.auth.dto.RefreshTokenRequestDTO;
 import com.banking.auth.dto.RegisterRequestDTO;
 import com.banking.auth.dto.UserKycDTO;
 
@@ -12,6 +13,8 @@ public interface AuthService {
 
     AuthResponseDTO login(LoginRequestDTO loginRequest);
 
+    AuthResponseDTO refresh(RefreshTokenRequestDTO refreshRequest);
+
     Boolean validateToken(String token);
 
     UserKycDTO getUserKycStatus(Long userId);
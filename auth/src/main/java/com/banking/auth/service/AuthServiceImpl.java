@@ -2,6 +2,7 @@ package com.banking.auth.service;
 
 import com.banking.auth.dto.AuthResponseDTO;
 import com.banking.auth.dto.LoginRequestDTO;
+import com.banking.auth.dto.RefreshTokenRequestDTO;
 import com.banking.auth.dto.RegisterRequestDTO;
 import com.banking.auth.dto.UserKycDTO;
 import com.banking.auth.entity.Customer;
@@ -10,16 +11,21 @@ import com.banking.auth.entity.User;
 import com.banking.auth.exception.UserAlreadyExistsException;
 import com.banking.auth.repository.CustomerRepository;
 import com.banking.auth.repository.UserRepository;
+import com.banking.auth.security.UserDetailsImpl;
+import com.banking.security.jwt.CachingTokenVerifier;
+import com.banking.security.jwt.TokenVerificationException;
+import com.banking.security.revocation.RevocationList;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
@@ -30,11 +36,16 @@ public class AuthServiceImpl implements AuthService {
         private final UserRepository userRepository;
         private final CustomerRepository customerRepository;
         private final PasswordEncoder passwordEncoder;
-        private final AuthenticationManager authenticationManager;
         private final UnifiedJwtService unifiedJwtService;
-
+        private final RefreshTokenService refreshTokenService;
+        private final CachingTokenVerifier tokenVerifier;
+        private final RevocationList revocationList;
+
+        /**
+         * Not transactional: the BCrypt encode may wait on the hashing pool and
+         * should not hold a database connection meanwhile.
+         */
         @Override
-        @Transactional
         public AuthResponseDTO register(RegisterRequestDTO registerRequest) {
                 if (userRepository.existsByUsername(registerRequest.getUsername())) {
                         throw new UserAlreadyExistsException("Username already exists");
@@ -57,48 +68,84 @@ public class AuthServiceImpl implements AuthService {
 
                 userRepository.save(user);
 
-                Authentication authentication = authenticationManager.authenticate(
-                                new UsernamePasswordAuthenticationToken(
-                                                registerRequest.getUsername(),
-                                                registerRequest.getPassword()));
-
+                // The password was just hashed from this request; verifying it again would
+                // only cost a second BCrypt round
+                Authentication authentication = authenticated(user);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
                 String jwt = unifiedJwtService.generateToken(authentication);
 
-                return new AuthResponseDTO(jwt, user.getId(), user.getUsername(), user.getEmail(),
-                                user.getName(), user.getFirstName(), user.getLastName(),
-                                user.getPhone(), user.getCustomerId(), user.getKycStatus(),
-                                user.getRole().name());
+                return response(jwt, refreshTokenService.issue(user), user);
         }
 
+        /**
+         * One user lookup (username or email) and one BCrypt verify on the
+         * bounded hashing pool. Not transactional, so no database connection is
+         * held while the hash is queued or computed.
+         */
         @Override
-        @Transactional
         public AuthResponseDTO login(LoginRequestDTO loginRequest) {
                 final String loginId = loginRequest.getUsername() == null
                                 ? ""
                                 : loginRequest.getUsername().trim();
 
-                User user = userRepository.findByUsername(loginId)
-                                .or(() -> userRepository.findByEmail(loginId.toLowerCase(Locale.ROOT)))
+                List<User> candidates = userRepository.findByUsernameOrEmail(loginId,
+                                loginId.toLowerCase(Locale.ROOT));
+                User user = candidates.stream()
+                                .filter(candidate -> loginId.equals(candidate.getUsername()))
+                                .findFirst()
+                                .or(() -> candidates.stream().findFirst())
                                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-                Authentication authentication = authenticationManager.authenticate(
-                                new UsernamePasswordAuthenticationToken(
-                                                user.getUsername(),
-                                                loginRequest.getPassword()));
+                if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
+                        throw new BadCredentialsException("Bad credentials");
+                }
+                if (!Boolean.TRUE.equals(user.getEnabled())) {
+                        throw new DisabledException("User account is disabled");
+                }
 
+                Authentication authentication = authenticated(user);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
                 String jwt = unifiedJwtService.generateToken(authentication);
 
-                return new AuthResponseDTO(jwt, user.getId(), user.getUsername(), user.getEmail(),
-                                user.getName(), user.getFirstName(), user.getLastName(),
+                return response(jwt, refreshTokenService.issue(user), user);
+        }
+
+        /**
+         * Exchanges a refresh token for a new access token and a new refresh
+         * token. The password is not checked again, so this skips BCrypt and
+         * AuthenticationManager entirely.
+         */
+        @Override
+        public AuthResponseDTO refresh(RefreshTokenRequestDTO refreshRequest) {
+                RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshRequest.getRefreshToken());
+                User user = rotation.user();
+
+                String jwt = unifiedJwtService.generateToken(authenticated(user));
+
+                return response(jwt, rotation.refreshToken(), user);
+        }
+
+        private static Authentication authenticated(User user) {
+                UserDetailsImpl principal = UserDetailsImpl.build(user);
+                return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        }
+
+        private static AuthResponseDTO response(String jwt, String refreshToken, User user) {
+                AuthResponseDTO response = new AuthResponseDTO(jwt, user.getId(), user.getUsername(),
+                                user.getEmail(), user.getName(), user.getFirstName(), user.getLastName(),
                                 user.getPhone(), user.getCustomerId(), user.getKycStatus(),
                                 user.getRole().name());
+                response.setRefreshToken(refreshToken);
+                return response;
         }
 
         @Override
         public Boolean validateToken(String token) {
-                return unifiedJwtService.validateToken(token);
+                try {
+                        return !revocationList.isRevoked(tokenVerifier.verify(token));
+                } catch (TokenVerificationException e) {
+                        return false;
+                }
         }
 
         @Override
@@ -11,6 +11,8 @@ public interface CustomerService {
 
     CustomerDTO getCustomerByUserId(Long userId);
 
+    List<CustomerDTO> getCustomersByUserIds(List<Long> userIds);
+
     CustomerDTO getCustomerByCifNumber(String cifNumber);
 
     CustomerDTO updateKycStatus(String cifNumber, UpdateKycStatusDTO updateRequest, String adminUsername);
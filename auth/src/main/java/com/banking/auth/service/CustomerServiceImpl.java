@@ -67,6 +67,16 @@ public class CustomerServiceImpl implements CustomerService {
         return mapToDTO(customer);
     }
 
+    @Override
+    public java.util.List<CustomerDTO> getCustomersByUserIds(java.util.List<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return java.util.List.of();
+        }
+        return customerRepository.findAllByUserIdIn(new java.util.HashSet<>(userIds)).stream()
+                .map(this::mapToDTO)
+                .collect(java.util.stream.Collectors.toList());
+    }
+
     @Override
     public CustomerDTO getCustomerByCifNumber(String cifNumber) {
         Customer customer = customerRepository.findByCifNumber(cifNumber)
@@ -0,0 +1,27 @@
+package com.banking.auth.service;
+
+import com.banking.auth.entity.User;
+
+/**
+ * Opaque, rotating refresh tokens (lifetime jwt.refresh-expiration).
+ */
+public interface RefreshTokenService {
+
+    /**
+     * Token exchanged for a new one on refresh; the user it was issued to.
+     */
+    record Rotation(User user, String refreshToken) {
+    }
+
+    /** Starts a new token family, e.g. on login. */
+    String issue(User user);
+
+    /**
+     * Consumes a refresh token and returns its successor.
+     *
+     * @throws com.banking.auth.exception.InvalidRefreshTokenException if the
+     *         token is unknown, expired or revoked, or was already used (which
+     *         also revokes every token descended from the same login)
+     */
+    Rotation rotate(String refreshToken);
+}
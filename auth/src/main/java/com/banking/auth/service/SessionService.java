@@ -0,0 +1,13 @@
+package com.banking.auth.service;
+
+import com.banking.auth.controller.SessionResponse;
+import com.banking.auth.security.UserDetailsImpl;
+
+/**
+ * PQ session handshake: turns an ML-KEM ciphertext from an authenticated
+ * client into a short-lived session whose requests are HMAC-authenticated.
+ */
+public interface SessionService {
+
+    SessionResponse openSession(UserDetailsImpl user, String ciphertext);
+}
@@ -0,0 +1,72 @@
+package com.banking.auth.service;
+
+import com.banking.auth.controller.ServerKeyStore;
+import com.banking.auth.controller.SessionResponse;
+import com.banking.auth.exception.InvalidSessionHandshakeException;
+import com.banking.auth.security.UserDetailsImpl;
+import com.banking.security.session.SessionKeys;
+import com.banking.security.session.SessionTicket;
+import com.banking.security.session.SessionTickets;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Cipher;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Decapsulates the client's ML-KEM-768 ciphertext with the server KEM key,
+ * derives the session MAC key from the shared secret and returns it sealed
+ * in the session id, so transaction-service can recover it with jwt.secret
+ * and no lookup back to this service.
+ */
+@Service
+public class SessionServiceImpl implements SessionService {
+
+    private final ServerKeyStore serverKeyStore;
+    private final SessionTickets sessionTickets;
+    private final long ttlSeconds;
+
+    public SessionServiceImpl(ServerKeyStore serverKeyStore, SessionTickets sessionTickets,
+            @Value("${jwt.session.ttl-seconds:900}") long ttlSeconds) {
+        this.serverKeyStore = serverKeyStore;
+        this.sessionTickets = sessionTickets;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    @Override
+    public SessionResponse openSession(UserDetailsImpl user, String ciphertext) {
+        if (ciphertext == null || ciphertext.isBlank()) {
+            throw new InvalidSessionHandshakeException("ciphertext is required");
+        }
+        byte[] sharedSecret;
+        try {
+            Cipher kemCipher = Cipher.getInstance("ML-KEM-768", "BC");
+            kemCipher.init(Cipher.UNWRAP_MODE, serverKeyStore.getKemPrivate());
+            sharedSecret = kemCipher.unwrap(Base64.getDecoder().decode(ciphertext), "AES", Cipher.SECRET_KEY)
+                    .getEncoded();
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new InvalidSessionHandshakeException("Invalid ML-KEM ciphertext", e);
+        }
+
+        long issuedAt = System.currentTimeMillis() / 1000;
+        long expiresAt = issuedAt + ttlSeconds;
+        try {
+            SessionTicket ticket = new SessionTicket(SessionKeys.sessionKey(sharedSecret), user.getId(),
+                    user.getUsername(), role(user), issuedAt, expiresAt);
+            return new SessionResponse(sessionTickets.seal(ticket), expiresAt, SessionTicket.ALGORITHM);
+        } finally {
+            Arrays.fill(sharedSecret, (byte) 0);
+        }
+    }
+
+    private static String role(UserDetailsImpl user) {
+        return user.getAuthorities().stream()
+                .map(authority -> authority.getAuthority())
+                .filter(authority -> authority.startsWith("ROLE_"))
+                .map(authority -> authority.substring("ROLE_".length()))
+                .findFirst()
+                .orElse(null);
+    }
+}
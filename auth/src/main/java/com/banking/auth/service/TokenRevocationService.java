@@ -0,0 +1,19 @@
+package com.banking.auth.service;
+
+import com.banking.security.revocation.RevocationDelta;
+
+/**
+ * Revocation of access tokens before their exp, replicated to every service
+ * through {@link #delta(long)}.
+ */
+public interface TokenRevocationService {
+
+    /** Revokes one access token by its jti, e.g. on logout. */
+    void revokeToken(String token);
+
+    /** Revokes every access token issued to the user so far, and their refresh tokens. */
+    void revokeUser(Long userId);
+
+    /** Revocations logged after {@code since}, oldest first. */
+    RevocationDelta delta(long since);
+}
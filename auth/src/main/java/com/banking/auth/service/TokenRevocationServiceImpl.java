@@ -0,0 +1,144 @@
+package com.banking.auth.service;
+
+import com.banking.auth.entity.RevokedToken;
+import com.banking.auth.exception.TokenRevocationException;
+import com.banking.auth.repository.RefreshTokenRepository;
+import com.banking.auth.repository.RevokedTokenRepository;
+import com.banking.security.jwt.JwtVerifier;
+import com.banking.security.jwt.VerifiedToken;
+import com.banking.security.revocation.Revocation;
+import com.banking.security.revocation.RevocationDelta;
+import com.banking.security.revocation.RevocationList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes revocations to the revoked_tokens table and keeps this instance's
+ * {@link RevocationList} in step with it, picking up entries written by
+ * other auth-service instances on the regular sync.
+ */
+@Slf4j
+@Service
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtVerifier jwtVerifier;
+    private final RevocationList revocationList;
+    private final long jwtExpirationMs;
+    private final long replayWindowSeconds;
+
+    public TokenRevocationServiceImpl(RevokedTokenRepository revokedTokenRepository,
+            RefreshTokenRepository refreshTokenRepository,
+            JwtVerifier jwtVerifier,
+            RevocationList revocationList,
+            @Value("${jwt.expiration}") long jwtExpirationMs,
+            @Value("${auth.revocations.replay-window-seconds:60}") long replayWindowSeconds) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtVerifier = jwtVerifier;
+        this.revocationList = revocationList;
+        this.jwtExpirationMs = jwtExpirationMs;
+        this.replayWindowSeconds = replayWindowSeconds;
+    }
+
+    @Override
+    public void revokeToken(String token) {
+        VerifiedToken verified = jwtVerifier.verify(token);
+        Object jti = verified.claim("jti");
+        Long exp = verified.expiresAtEpochSecond();
+        if (jti == null || exp == null) {
+            throw new TokenRevocationException("Token has no jti or exp and cannot be revoked individually");
+        }
+        save(Revocation.Type.TOKEN, jti.toString(), toLocalDateTime(exp));
+        sync();
+    }
+
+    @Override
+    public void revokeUser(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        // Any token issued up to now expires within jwt.expiration
+        save(Revocation.Type.USER, String.valueOf(userId), now.plus(jwtExpirationMs, ChronoUnit.MILLIS));
+        int refreshTokens = refreshTokenRepository.revokeAllForUser(userId, now);
+        log.info("Revoked all tokens of user {} ({} refresh tokens)", userId, refreshTokens);
+        sync();
+    }
+
+    /**
+     * Entries after {@code since}, plus every entry at or before it revoked
+     * within the replay window. With several auth-service instances writing,
+     * a lower id can commit after a higher one was already served; replaying
+     * recent rows lets every reader pick it up as long as its transaction
+     * committed within the window. Replayed entries merge idempotently.
+     */
+    @Override
+    public RevocationDelta delta(long since) {
+        List<Revocation> revocations = new ArrayList<>();
+        if (since > 0) {
+            LocalDateTime replayFrom = LocalDateTime.now().minusSeconds(replayWindowSeconds);
+            revokedTokenRepository
+                    .findByIdLessThanEqualAndRevokedAtGreaterThanEqualOrderByIdAsc(since, replayFrom,
+                            PageRequest.of(0, PAGE_SIZE))
+                    .forEach(revoked -> revocations.add(toRevocation(revoked)));
+        }
+        List<RevokedToken> page = revokedTokenRepository.findByIdGreaterThanOrderByIdAsc(since,
+                PageRequest.of(0, PAGE_SIZE));
+        page.forEach(revoked -> revocations.add(toRevocation(revoked)));
+        // The cursor only moves over new entries; a page of replays alone ends the caller's pull
+        long cursor = page.isEmpty() ? since : page.get(page.size() - 1).getId();
+        return new RevocationDelta(cursor, revocations);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.revocations.refresh-interval-ms:5000}")
+    public void sync() {
+        try {
+            revocationList.pull(this::delta);
+        } catch (Exception e) {
+            log.warn("Could not sync token revocations: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auth.revocations.cleanup-interval-ms:3600000}")
+    @Transactional
+    public void deleteExpired() {
+        int deleted = revokedTokenRepository.deleteExpiredBefore(LocalDateTime.now());
+        if (deleted > 0) {
+            log.debug("Deleted {} expired token revocations", deleted);
+        }
+    }
+
+    private void save(Revocation.Type type, String subject, LocalDateTime expiresAt) {
+        RevokedToken revoked = new RevokedToken();
+        revoked.setType(type);
+        revoked.setSubject(subject);
+        revoked.setRevokedAt(LocalDateTime.now());
+        revoked.setExpiresAt(expiresAt);
+        revokedTokenRepository.save(revoked);
+    }
+
+    private static Revocation toRevocation(RevokedToken revoked) {
+        return new Revocation(revoked.getId(), revoked.getType(), revoked.getSubject(),
+                toEpochSecond(revoked.getRevokedAt()), toEpochSecond(revoked.getExpiresAt()));
+    }
+
+    private static long toEpochSecond(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochSecond) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,19 @@
+package com.banking.auth.service;
+
+import com.banking.auth.dto.TokenValidationResultDTO;
+
+import java.util.List;
+
+/**
+ * Bulk token validation for gateways and sidecars that would otherwise
+ * call /api/auth/validate once per token.
+ */
+public interface TokenValidationService {
+
+    /**
+     * @return one result per input token, in input order
+     * @throws com.banking.auth.exception.BatchTooLargeException if more than
+     *         auth.validate-batch.max-tokens are given
+     */
+    List<TokenValidationResultDTO> validateAll(List<String> tokens);
+}
@@ -0,0 +1,16 @@
+package com.banking.auth.service;
+
+/**
+ * Live account flags for endpoints that must not trust a still-valid token
+ * alone (e.g. a user disabled after the token was issued).
+ */
+public interface UserStateService {
+
+    boolean isEnabled(String username);
+
+    /**
+     * Drops the cached flag; call wherever the enabled flag changes so this
+     * instance rereads it.
+     */
+    void evict(String username);
+}
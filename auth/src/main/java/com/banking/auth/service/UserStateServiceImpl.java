@@ -0,0 +1,58 @@
+package com.banking.auth.service;
+
+import com.banking.auth.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * Reads the enabled flag from the users table. When
+ * auth.user-state-cache.enabled is set the answer is kept for a short TTL, so a
+ * disabled account is locked out within that window instead of immediately.
+ */
+@Service
+public class UserStateServiceImpl implements UserStateService {
+
+    private final UserRepository userRepository;
+    private final Cache<String, Boolean> cache;
+
+    public UserStateServiceImpl(UserRepository userRepository,
+            @Value("${auth.user-state-cache.enabled:false}") boolean cacheEnabled,
+            @Value("${auth.user-state-cache.ttl-seconds:30}") long ttlSeconds,
+            @Value("${auth.user-state-cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.cache = cacheEnabled
+                ? Caffeine.newBuilder()
+                        .maximumSize(maxSize)
+                        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                        .build()
+                : null;
+    }
+
+    @Override
+    public boolean isEnabled(String username) {
+        if (username == null) {
+            return false;
+        }
+        if (cache == null) {
+            return load(username);
+        }
+        return cache.get(username, this::load);
+    }
+
+    @Override
+    public void evict(String username) {
+        if (cache != null && username != null) {
+            cache.invalidate(username);
+        }
+    }
+
+    private boolean load(String username) {
+        return userRepository.findByUsername(username)
+                .map(user -> Boolean.TRUE.equals(user.getEnabled()))
+                .orElse(false);
+    }
+}
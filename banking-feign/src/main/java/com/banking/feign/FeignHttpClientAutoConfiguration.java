@@ -0,0 +1,95 @@
+package com.banking.feign;
+
+import feign.Client;
+import feign.hc5.ApacheHttp5Client;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+
+import javax.net.ssl.SSLContext;
+import java.util.Optional;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * One pooled Apache HttpClient 5 behind every Feign client, plain or TLS
+ * (TLS when the service's FeignTlsClientConfig provides feignSslContext).
+ * Connections are kept alive and reused per route, so internal calls under
+ * load skip the TCP and TLS handshakes. Idle and expired connections are
+ * evicted in the background. Pool usage is exported as
+ * httpcomponents.httpclient.pool.* with tag httpclient=feign by gauges
+ * registered here over the pool's total stats; the names follow Micrometer's
+ * hc5 binder, which is newer than the Micrometer Boot 3.0 manages.
+ * <p>
+ * Ordered before Spring Cloud OpenFeign's auto-configuration so its own
+ * HttpClient and Client beans back off.
+ */
+@AutoConfiguration(beforeName = "org.springframework.cloud.openfeign.FeignAutoConfiguration")
+@ConditionalOnClass(ApacheHttp5Client.class)
+public class FeignHttpClientAutoConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient feignHttpClient(MeterRegistry meterRegistry,
+            @Qualifier("feignSslContext") Optional<SSLContext> sslContext,
+            @Value("${feign.pool.max-total:200}") int maxTotal,
+            @Value("${feign.pool.max-per-route:50}") int maxPerRoute,
+            @Value("${feign.pool.idle-eviction-seconds:30}") long idleEvictionSeconds,
+            @Value("${feign.pool.time-to-live-seconds:300}") long timeToLiveSeconds) {
+        PoolingHttpClientConnectionManagerBuilder builder = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setConnectionTimeToLive(TimeValue.ofSeconds(timeToLiveSeconds));
+        // Same trust policy as the previous HttpsURLConnection client
+        sslContext.ifPresent(context -> builder.setSSLSocketFactory(
+                new SSLConnectionSocketFactory(context, NoopHostnameVerifier.INSTANCE)));
+        PoolingHttpClientConnectionManager connectionManager = builder.build();
+        bindPoolMetrics(connectionManager, meterRegistry);
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .evictIdleConnections(TimeValue.ofSeconds(idleEvictionSeconds))
+                .evictExpiredConnections()
+                .build();
+    }
+
+    private static void bindPoolMetrics(PoolingHttpClientConnectionManager connectionManager,
+            MeterRegistry meterRegistry) {
+        poolGauge("httpcomponents.httpclient.pool.total.max", "Maximum connections in the pool",
+                connectionManager, PoolStats::getMax, meterRegistry, null);
+        poolGauge("httpcomponents.httpclient.pool.total.connections", "Connections leased from the pool",
+                connectionManager, PoolStats::getLeased, meterRegistry, "leased");
+        poolGauge("httpcomponents.httpclient.pool.total.connections", "Idle connections available in the pool",
+                connectionManager, PoolStats::getAvailable, meterRegistry, "available");
+        poolGauge("httpcomponents.httpclient.pool.total.pending", "Requests waiting for a connection",
+                connectionManager, PoolStats::getPending, meterRegistry, null);
+    }
+
+    private static void poolGauge(String name, String description,
+            PoolingHttpClientConnectionManager connectionManager, ToDoubleFunction<PoolStats> stat,
+            MeterRegistry meterRegistry, String state) {
+        Gauge.Builder<PoolingHttpClientConnectionManager> gauge = Gauge
+                .builder(name, connectionManager, manager -> stat.applyAsDouble(manager.getTotalStats()))
+                .description(description)
+                .tag("httpclient", "feign");
+        if (state != null) {
+            gauge.tag("state", state);
+        }
+        gauge.register(meterRegistry);
+    }
+
+    @Bean
+    public Client feignClient(CloseableHttpClient feignHttpClient) {
+        return new ApacheHttp5Client(feignHttpClient);
+    }
+}
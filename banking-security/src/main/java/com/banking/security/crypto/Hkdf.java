@@ -0,0 +1,26 @@
+package com.banking.security.crypto;
+
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.generators.HKDFBytesGenerator;
+import org.bouncycastle.crypto.params.HKDFParameters;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * HKDF-SHA256 (RFC 5869) without salt. Each use passes its own {@code info}
+ * label, so keys derived from the same secret for different purposes are
+ * independent.
+ */
+public final class Hkdf {
+
+    private Hkdf() {
+    }
+
+    public static byte[] sha256(byte[] inputKeyMaterial, String info, int length) {
+        HKDFBytesGenerator hkdf = new HKDFBytesGenerator(new SHA256Digest());
+        hkdf.init(new HKDFParameters(inputKeyMaterial, null, info.getBytes(StandardCharsets.UTF_8)));
+        byte[] key = new byte[length];
+        hkdf.generateBytes(key, 0, key.length);
+        return key;
+    }
+}
@@ -0,0 +1,32 @@
+package com.banking.security.crypto;
+
+import java.security.KeyFactory;
+import java.security.NoSuchAlgorithmException;
+import java.security.NoSuchProviderException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-thread {@link KeyFactory} instances by algorithm and provider, for
+ * paths that decode keys on every request. {@code KeyFactory} is not
+ * documented as thread-safe, so instances are not shared across threads.
+ */
+public final class ThreadLocalKeyFactories {
+
+    private static final ThreadLocal<Map<String, KeyFactory>> FACTORIES = ThreadLocal.withInitial(HashMap::new);
+
+    private ThreadLocalKeyFactories() {
+    }
+
+    public static KeyFactory get(String algorithm, String provider)
+            throws NoSuchAlgorithmException, NoSuchProviderException {
+        Map<String, KeyFactory> factories = FACTORIES.get();
+        String cacheKey = algorithm + '/' + provider;
+        KeyFactory factory = factories.get(cacheKey);
+        if (factory == null) {
+            factory = KeyFactory.getInstance(algorithm, provider);
+            factories.put(cacheKey, factory);
+        }
+        return factory;
+    }
+}
@@ -0,0 +1,78 @@
+package com.banking.security.crypto;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Per-thread {@link Signature} objects for one algorithm, kept initialized
+ * for the keys they were last used with. A JCA signature returns to its
+ * initialized state after {@code sign()} / {@code verify()}, so a request
+ * thread that sees the same key again skips the provider lookup, the
+ * allocation and {@code initSign}/{@code initVerify} (for ML-DSA the latter
+ * hashes the whole public key).
+ * <p>
+ * Keys are matched by identity, which suits long-lived server and resolver
+ * keys; each thread keeps at most {@code maxKeysPerThread} of them.
+ */
+public class ThreadLocalSignatures {
+
+    private final String algorithm;
+    private final String provider;
+    private final int maxKeysPerThread;
+    private final ThreadLocal<Map<Key, Signature>> signers = ThreadLocal.withInitial(IdentityHashMap::new);
+    private final ThreadLocal<Map<Key, Signature>> verifiers = ThreadLocal.withInitial(IdentityHashMap::new);
+
+    public ThreadLocalSignatures(String algorithm, String provider) {
+        this(algorithm, provider, 4);
+    }
+
+    public ThreadLocalSignatures(String algorithm, String provider, int maxKeysPerThread) {
+        this.algorithm = algorithm;
+        this.provider = provider;
+        this.maxKeysPerThread = maxKeysPerThread;
+    }
+
+    public String algorithm() {
+        return algorithm;
+    }
+
+    public byte[] sign(PrivateKey key, byte[] data) throws GeneralSecurityException {
+        Map<Key, Signature> cache = signers.get();
+        Signature signature = cache.remove(key);
+        if (signature == null) {
+            signature = Signature.getInstance(algorithm, provider);
+            signature.initSign(key);
+        }
+        // Only an instance that completed normally goes back into the cache
+        signature.update(data);
+        byte[] result = signature.sign();
+        put(cache, key, signature);
+        return result;
+    }
+
+    public boolean verify(PublicKey key, byte[] data, byte[] signatureBytes) throws GeneralSecurityException {
+        Map<Key, Signature> cache = verifiers.get();
+        Signature signature = cache.remove(key);
+        if (signature == null) {
+            signature = Signature.getInstance(algorithm, provider);
+            signature.initVerify(key);
+        }
+        signature.update(data);
+        boolean valid = signature.verify(signatureBytes);
+        put(cache, key, signature);
+        return valid;
+    }
+
+    private void put(Map<Key, Signature> cache, Key key, Signature signature) {
+        if (cache.size() >= maxKeysPerThread) {
+            // Rotated-out keys are simply dropped; the working set is rebuilt on demand
+            cache.clear();
+        }
+        cache.put(key, signature);
+    }
+}
@@ -0,0 +1,161 @@
+package com.banking.security.internal;
+
+import com.banking.security.crypto.Hkdf;
+import com.banking.security.jwt.TokenVerificationException;
+import com.banking.security.jwt.VerifiedToken;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Short-lived credentials for service-to-service calls. The calling service
+ * mints one per outbound request, asserting the user it acts for; the callee
+ * checks it with one HMAC instead of re-verifying the user's (possibly
+ * multi-kilobyte ML-DSA) token. A token is bound to its audience, so one
+ * minted for account-service is not accepted elsewhere.
+ * <p>
+ * Format: base64url(version, exp, userId, issuer, audience, subject, role,
+ * HMAC-SHA256 over everything before it), about 140 characters. The MAC key
+ * is derived from the shared jwt.secret.
+ */
+public class InternalTokens {
+
+    public static final String ALGORITHM = "HS256-internal";
+
+    /**
+     * Role of a token a service mints for itself rather than for a user, e.g.
+     * to call auth-service's service-only endpoints. No user holds it.
+     */
+    public static final String SERVICE_ROLE = "SERVICE";
+
+    private static final byte VERSION = 1;
+    private static final String KEY_INFO = "banking-internal-token-v1";
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final int MAC_LENGTH = 32;
+
+    private final ThreadLocal<Mac> macs;
+    private final long ttlSeconds;
+
+    /**
+     * @param ttlSeconds lifetime of minted tokens; one outbound call, plus
+     *                   clock skew between hosts
+     */
+    public InternalTokens(String secret, long ttlSeconds) {
+        SecretKeySpec key = new SecretKeySpec(
+                Hkdf.sha256(secret.getBytes(StandardCharsets.UTF_8), KEY_INFO, MAC_LENGTH), MAC_ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(MAC_ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(MAC_ALGORITHM + " not available", e);
+            }
+        });
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    public String mint(String issuer, String audience, String subject, Long userId, String role) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeLong(System.currentTimeMillis() / 1000 + ttlSeconds);
+            out.writeBoolean(userId != null);
+            out.writeLong(userId != null ? userId : 0);
+            out.writeUTF(issuer);
+            out.writeUTF(audience);
+            out.writeUTF(subject);
+            out.writeUTF(role != null ? role : "");
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode internal token", e);
+        }
+        byte[] payload = bytes.toByteArray();
+        Mac mac = macs.get();
+        mac.update(payload);
+        byte[] token = new byte[payload.length + MAC_LENGTH];
+        System.arraycopy(payload, 0, token, 0, payload.length);
+        System.arraycopy(mac.doFinal(), 0, token, payload.length, MAC_LENGTH);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+    }
+
+    /**
+     * A token for {@code service} acting as itself (role
+     * {@link #SERVICE_ROLE}, no user), e.g. to call auth-service's
+     * service-only endpoints.
+     */
+    public String mintForService(String service, String audience) {
+        return mint(service, audience, service, null, SERVICE_ROLE);
+    }
+
+    /**
+     * @throws TokenVerificationException if the token was not minted with this
+     *                                    secret, is for another audience, or
+     *                                    has expired
+     */
+    public VerifiedToken verify(String token, String audience) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.MALFORMED,
+                    "Internal token is not base64url", e);
+        }
+        if (bytes.length <= 1 + MAC_LENGTH || bytes[0] != VERSION) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.MALFORMED,
+                    "Unsupported internal token");
+        }
+
+        int payloadLength = bytes.length - MAC_LENGTH;
+        Mac mac = macs.get();
+        mac.update(bytes, 0, payloadLength);
+        byte[] expected = mac.doFinal();
+        byte[] actual = new byte[MAC_LENGTH];
+        System.arraycopy(bytes, payloadLength, actual, 0, MAC_LENGTH);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.BAD_SIGNATURE,
+                    "Internal token was not issued by this deployment");
+        }
+
+        Map<String, Object> claims = new HashMap<>();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 1, payloadLength - 1))) {
+            long exp = in.readLong();
+            boolean hasUserId = in.readBoolean();
+            long userId = in.readLong();
+            claims.put("exp", exp);
+            if (hasUserId) {
+                claims.put("userId", userId);
+            }
+            claims.put("iss", in.readUTF());
+            claims.put("aud", in.readUTF());
+            claims.put("sub", in.readUTF());
+            String role = in.readUTF();
+            if (!role.isEmpty()) {
+                claims.put("role", role);
+            }
+        } catch (IOException e) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.MALFORMED,
+                    "Invalid internal token", e);
+        }
+
+        if (!audience.equals(claims.get("aud"))) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.BAD_SIGNATURE,
+                    "Internal token is for " + claims.get("aud") + ", not " + audience);
+        }
+        if (System.currentTimeMillis() / 1000 > (Long) claims.get("exp")) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.EXPIRED,
+                    "Internal token expired");
+        }
+        return new VerifiedToken(ALGORITHM, null, claims);
+    }
+}
@@ -0,0 +1,62 @@
+package com.banking.security.jwt;
+
+/**
+ * Verifier for a single JWS algorithm. Instances are immutable and
+ * thread-safe; register them with {@link JwtVerifier} to dispatch on the
+ * token's {@code alg} header. Verifiers that also accept the CWT encoding
+ * override {@link #verify(CoseSign1)}.
+ */
+public abstract class AlgorithmJwtVerifier implements TokenVerifier {
+
+    /**
+     * Longest token accepted. Well above an ML-DSA-87 JWT (~8.5 KB), and
+     * checked before any decoding so oversized junk costs nothing.
+     */
+    static final int MAX_TOKEN_LENGTH = 16 * 1024;
+
+    AlgorithmJwtVerifier() {
+    }
+
+    /** The {@code alg} header value this verifier handles. */
+    public abstract String algorithm();
+
+    abstract VerifiedToken verify(JwtSegments segments);
+
+    VerifiedToken verify(CoseSign1 message) {
+        throw new TokenVerificationException(TokenVerificationException.Reason.UNSUPPORTED_ALGORITHM,
+                algorithm() + " tokens are not accepted in CWT form");
+    }
+
+    @Override
+    public VerifiedToken verify(String token) {
+        checkLength(token);
+        if (CoseSign1.isCwt(token)) {
+            CoseSign1 message = CoseSign1.parse(token);
+            if (!algorithm().equals(message.algorithm())) {
+                throw new TokenVerificationException(TokenVerificationException.Reason.UNSUPPORTED_ALGORITHM,
+                        "Expected " + algorithm() + " but token uses " + message.algorithm());
+            }
+            return verify(message);
+        }
+        JwtSegments segments = JwtSegments.parse(token);
+        if (!algorithm().equals(segments.algorithm())) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.UNSUPPORTED_ALGORITHM,
+                    "Expected " + algorithm() + " but token uses " + segments.algorithm());
+        }
+        return verify(segments);
+    }
+
+    static void checkLength(String token) {
+        if (token != null && token.length() > MAX_TOKEN_LENGTH) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.MALFORMED,
+                    "Token longer than " + MAX_TOKEN_LENGTH + " characters");
+        }
+    }
+
+    static void checkExpiry(VerifiedToken token) {
+        Long exp = token.expiresAtEpochSecond();
+        if (exp != null && System.currentTimeMillis() > exp * 1000) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.EXPIRED, "Token expired");
+        }
+    }
+}
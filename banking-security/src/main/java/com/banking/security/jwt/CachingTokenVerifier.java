@@ -0,0 +1,124 @@
+package com.banking.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of successfully verified tokens in front of another
+ * verifier, keyed by SHA-256 of the token. Entries die at the token's
+ * {@code exp} (capped at a maximum TTL), so a token presented on every
+ * request is signature-checked once per process.
+ * <p>
+ * Optionally, rejections are cached too, in a separate bounded cache with a
+ * short fixed TTL, so a client replaying the same bad token is answered
+ * without re-parsing it. {@link TokenVerificationException.Reason#UNKNOWN_KEY}
+ * is never cached: the key may appear with the next key set refresh.
+ */
+public class CachingTokenVerifier implements TokenVerifier {
+
+    private final TokenVerifier delegate;
+    private final Cache<String, VerifiedToken> verified;
+    private final Cache<String, TokenVerificationException.Reason> rejected;
+
+    public CachingTokenVerifier(TokenVerifier delegate, long maxSize, long maxTtlSeconds) {
+        this(delegate, maxSize, maxTtlSeconds, 0, 0);
+    }
+
+    /**
+     * @param negativeMaxSize rejected tokens to remember; 0 disables the negative cache
+     * @param negativeTtlSeconds how long a rejection is remembered
+     */
+    public CachingTokenVerifier(TokenVerifier delegate, long maxSize, long maxTtlSeconds,
+            long negativeMaxSize, long negativeTtlSeconds) {
+        this.delegate = delegate;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry(TimeUnit.SECONDS.toNanos(maxTtlSeconds)))
+                .build();
+        this.rejected = negativeMaxSize > 0 && negativeTtlSeconds > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(negativeMaxSize)
+                        .expireAfterWrite(negativeTtlSeconds, TimeUnit.SECONDS)
+                        .<String, TokenVerificationException.Reason>build()
+                : null;
+    }
+
+    @Override
+    public VerifiedToken verify(String token) {
+        String cacheKey = sha256(token);
+        VerifiedToken cached = verified.getIfPresent(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        if (rejected != null) {
+            TokenVerificationException.Reason reason = rejected.getIfPresent(cacheKey);
+            if (reason != null) {
+                throw new TokenVerificationException(reason, "Token previously rejected: " + reason, false);
+            }
+        }
+
+        VerifiedToken result;
+        try {
+            result = delegate.verify(token);
+        } catch (TokenVerificationException e) {
+            if (rejected != null && e.getReason() != TokenVerificationException.Reason.UNKNOWN_KEY) {
+                rejected.put(cacheKey, e.getReason());
+            }
+            throw e;
+        }
+        verified.put(cacheKey, result);
+        return result;
+    }
+
+    public long size() {
+        return verified.estimatedSize();
+    }
+
+    public long rejectedSize() {
+        return rejected == null ? 0 : rejected.estimatedSize();
+    }
+
+    private static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class TokenExpiry implements Expiry<String, VerifiedToken> {
+        private final long maxTtlNanos;
+
+        TokenExpiry(long maxTtlNanos) {
+            this.maxTtlNanos = maxTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+            Long exp = token.expiresAtEpochSecond();
+            if (exp == null) {
+                return maxTtlNanos;
+            }
+            long remainingMillis = exp * 1000 - System.currentTimeMillis();
+            return Math.max(0, Math.min(maxTtlNanos, TimeUnit.MILLISECONDS.toNanos(remainingMillis)));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
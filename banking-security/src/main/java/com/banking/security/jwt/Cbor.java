@@ -0,0 +1,305 @@
+package com.banking.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal definite-length CBOR (RFC 8949) encoding for CWT tokens: unsigned
+ * and negative integers, byte and text strings, arrays, maps, tags and the
+ * simple values true/false/null. The reader works on the decoded token bytes
+ * in place; byte strings are exposed as offsets rather than copied.
+ * <p>
+ * The reader runs on unauthenticated input, before the signature check. Every
+ * declared length and element count is checked against the bytes left, no
+ * collection is sized from a count, and nesting is capped at
+ * {@link #MAX_DEPTH}, so a hostile token costs at most a walk over its own
+ * bytes. Every failure is a MALFORMED {@link TokenVerificationException}.
+ */
+final class Cbor {
+
+    static final int UNSIGNED = 0;
+    static final int NEGATIVE = 1;
+    static final int BYTES = 2;
+    static final int TEXT = 3;
+    static final int ARRAY = 4;
+    static final int MAP = 5;
+    static final int TAG = 6;
+    static final int SIMPLE = 7;
+
+    /** Deepest array/map/tag nesting {@link Reader#value()} accepts; CWT claims need two. */
+    static final int MAX_DEPTH = 16;
+
+    private Cbor() {
+    }
+
+    static final class Writer {
+
+        private byte[] buffer;
+        private int size;
+
+        Writer(int initialCapacity) {
+            buffer = new byte[initialCapacity];
+        }
+
+        Writer head(int majorType, long argument) {
+            int type = majorType << 5;
+            if (argument < 24) {
+                put(type | (int) argument);
+            } else if (argument < 0x100) {
+                put(type | 24);
+                put((int) argument);
+            } else if (argument < 0x10000) {
+                put(type | 25);
+                putBigEndian(argument, 2);
+            } else if (argument < 0x100000000L) {
+                put(type | 26);
+                putBigEndian(argument, 4);
+            } else {
+                put(type | 27);
+                putBigEndian(argument, 8);
+            }
+            return this;
+        }
+
+        Writer integer(long value) {
+            return value >= 0 ? head(UNSIGNED, value) : head(NEGATIVE, -1 - value);
+        }
+
+        Writer bytes(byte[] data) {
+            return bytes(data, 0, data.length);
+        }
+
+        Writer bytes(byte[] data, int offset, int length) {
+            head(BYTES, length);
+            ensure(length);
+            System.arraycopy(data, offset, buffer, size, length);
+            size += length;
+            return this;
+        }
+
+        Writer text(String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            head(TEXT, utf8.length);
+            ensure(utf8.length);
+            System.arraycopy(utf8, 0, buffer, size, utf8.length);
+            size += utf8.length;
+            return this;
+        }
+
+        Writer bool(boolean value) {
+            put((SIMPLE << 5) | (value ? 21 : 20));
+            return this;
+        }
+
+        Writer nullValue() {
+            put((SIMPLE << 5) | 22);
+            return this;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void put(int b) {
+            ensure(1);
+            buffer[size++] = (byte) b;
+        }
+
+        private void putBigEndian(long value, int length) {
+            ensure(length);
+            for (int i = length - 1; i >= 0; i--) {
+                buffer[size++] = (byte) (value >>> (8 * i));
+            }
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+            }
+        }
+    }
+
+    static final class Reader {
+
+        private final byte[] data;
+        private final int end;
+        private int pos;
+        private int majorType;
+
+        Reader(byte[] data, int offset, int length) {
+            this.data = data;
+            this.pos = offset;
+            this.end = offset + length;
+        }
+
+        int position() {
+            return pos;
+        }
+
+        boolean atEnd() {
+            return pos == end;
+        }
+
+        int peekMajorType() {
+            require(1);
+            return (data[pos] & 0xff) >>> 5;
+        }
+
+        /** Reads an item head, returning its argument; the major type is in {@link #majorType()}. */
+        long head() {
+            require(1);
+            int initial = data[pos++] & 0xff;
+            majorType = initial >>> 5;
+            int info = initial & 0x1f;
+            if (info < 24) {
+                return info;
+            }
+            int length = switch (info) {
+                case 24 -> 1;
+                case 25 -> 2;
+                case 26 -> 4;
+                case 27 -> 8;
+                default -> throw malformed("Indefinite-length or reserved CBOR item");
+            };
+            require(length);
+            long value = 0;
+            for (int i = 0; i < length; i++) {
+                value = (value << 8) | (data[pos++] & 0xff);
+            }
+            if (value < 0) {
+                throw malformed("CBOR argument out of range");
+            }
+            return value;
+        }
+
+        int majorType() {
+            return majorType;
+        }
+
+        long integer() {
+            long argument = head();
+            if (majorType == UNSIGNED) {
+                return argument;
+            }
+            if (majorType == NEGATIVE) {
+                return -1 - argument;
+            }
+            throw malformed("Expected CBOR integer");
+        }
+
+        /** Reads an array head; every element takes at least one byte, so the count cannot exceed what is left. */
+        int arrayHeader() {
+            int count = (int) expect(ARRAY);
+            require(count);
+            return count;
+        }
+
+        /** Reads a map head; every entry takes at least two bytes. */
+        int mapHeader() {
+            int count = (int) expect(MAP);
+            require(2L * count);
+            return count;
+        }
+
+        /** Reads a byte string head and returns its length; the content starts at {@link #position()}. */
+        int bytesHeader() {
+            int length = (int) expect(BYTES);
+            require(length);
+            return length;
+        }
+
+        void skipBytes(int length) {
+            require(length);
+            pos += length;
+        }
+
+        String text() {
+            int length = (int) expect(TEXT);
+            require(length);
+            String value = new String(data, pos, length, StandardCharsets.UTF_8);
+            pos += length;
+            return value;
+        }
+
+        /** Decodes any item into Long, String, byte[], Boolean, null, List or Map. */
+        Object value() {
+            return value(0);
+        }
+
+        private Object value(int depth) {
+            if (depth > MAX_DEPTH) {
+                throw malformed("CBOR nesting deeper than " + MAX_DEPTH);
+            }
+            int type = peekMajorType();
+            switch (type) {
+                case UNSIGNED, NEGATIVE:
+                    return integer();
+                case BYTES: {
+                    int length = bytesHeader();
+                    byte[] value = Arrays.copyOfRange(data, pos, pos + length);
+                    pos += length;
+                    return value;
+                }
+                case TEXT:
+                    return text();
+                case ARRAY: {
+                    int count = arrayHeader();
+                    List<Object> list = new ArrayList<>();
+                    for (int i = 0; i < count; i++) {
+                        list.add(value(depth + 1));
+                    }
+                    return list;
+                }
+                case MAP: {
+                    int count = mapHeader();
+                    Map<Object, Object> map = new LinkedHashMap<>();
+                    for (int i = 0; i < count; i++) {
+                        map.put(value(depth + 1), value(depth + 1));
+                    }
+                    return map;
+                }
+                case TAG:
+                    head();
+                    return value(depth + 1);
+                default: {
+                    long simple = head();
+                    if (simple == 20) {
+                        return Boolean.FALSE;
+                    }
+                    if (simple == 21) {
+                        return Boolean.TRUE;
+                    }
+                    if (simple == 22) {
+                        return null;
+                    }
+                    throw malformed("Unsupported CBOR simple value " + simple);
+                }
+            }
+        }
+
+        private long expect(int expectedType) {
+            long argument = head();
+            if (majorType != expectedType) {
+                throw malformed("Unexpected CBOR major type " + majorType);
+            }
+            if (argument > Integer.MAX_VALUE) {
+                throw malformed("CBOR length out of range");
+            }
+            return argument;
+        }
+
+        private void require(long length) {
+            if (length > end - pos) {
+                throw malformed("Truncated CBOR item");
+            }
+        }
+
+        private static TokenVerificationException malformed(String message) {
+            return new TokenVerificationException(TokenVerificationException.Reason.MALFORMED, message);
+        }
+    }
+}
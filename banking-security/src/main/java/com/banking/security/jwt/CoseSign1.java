@@ -0,0 +1,175 @@
+package com.banking.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * A CBOR Web Token: a tagged COSE_Sign1 structure (RFC 9052)
+ * {@code [protected {1: alg}, unprotected {4: kid}, payload, signature]}
+ * carrying CWT claims, transported as a single base64url string. Tokens
+ * without a '.' are treated as CWTs by {@link JwtVerifier}.
+ */
+final class CoseSign1 {
+
+    static final long TAG = 18;
+    private static final int ALG_LABEL = 1;
+    private static final int KID_LABEL = 4;
+
+    /** COSE algorithm ids for ML-DSA (draft-ietf-cose-dilithium). */
+    private static final Map<String, Integer> COSE_ALGORITHMS = Map.of(
+            "ML-DSA-44", -48,
+            "ML-DSA-65", -49,
+            "ML-DSA-87", -50);
+
+    private final byte[] data;
+    private final int protectedOffset;
+    private final int protectedLength;
+    private final int payloadOffset;
+    private final int payloadLength;
+    private final int signatureOffset;
+    private final int signatureLength;
+    private final String algorithm;
+    private final String keyId;
+
+    private CoseSign1(byte[] data, int protectedOffset, int protectedLength, int payloadOffset, int payloadLength,
+            int signatureOffset, int signatureLength, String algorithm, String keyId) {
+        this.data = data;
+        this.protectedOffset = protectedOffset;
+        this.protectedLength = protectedLength;
+        this.payloadOffset = payloadOffset;
+        this.payloadLength = payloadLength;
+        this.signatureOffset = signatureOffset;
+        this.signatureLength = signatureLength;
+        this.algorithm = algorithm;
+        this.keyId = keyId;
+    }
+
+    static boolean isCwt(String token) {
+        return token != null && !token.isEmpty() && token.indexOf('.') < 0;
+    }
+
+    static CoseSign1 parse(String token) {
+        byte[] data = JwtSegments.base64UrlDecode(token);
+        Cbor.Reader in = new Cbor.Reader(data, 0, data.length);
+        if (in.peekMajorType() == Cbor.TAG && in.head() != TAG) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.MALFORMED,
+                    "Token is not a COSE_Sign1 message");
+        }
+        if (in.arrayHeader() != 4) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.MALFORMED,
+                    "COSE_Sign1 must have four elements");
+        }
+
+        int protectedLength = in.bytesHeader();
+        int protectedOffset = in.position();
+        in.skipBytes(protectedLength);
+        String algorithm = algorithmName(readAlgorithm(data, protectedOffset, protectedLength));
+
+        String keyId = null;
+        int unprotectedCount = in.mapHeader();
+        for (int i = 0; i < unprotectedCount; i++) {
+            Object label = in.value();
+            Object value = in.value();
+            if (label instanceof Long l && l == KID_LABEL && value instanceof byte[] kid) {
+                keyId = new String(kid, StandardCharsets.UTF_8);
+            }
+        }
+
+        int payloadLength = in.bytesHeader();
+        int payloadOffset = in.position();
+        in.skipBytes(payloadLength);
+        int signatureLength = in.bytesHeader();
+        int signatureOffset = in.position();
+        in.skipBytes(signatureLength);
+        if (!in.atEnd()) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.MALFORMED,
+                    "Trailing bytes after COSE_Sign1");
+        }
+        return new CoseSign1(data, protectedOffset, protectedLength, payloadOffset, payloadLength,
+                signatureOffset, signatureLength, algorithm, keyId);
+    }
+
+    private static long readAlgorithm(byte[] data, int offset, int length) {
+        Cbor.Reader in = new Cbor.Reader(data, offset, length);
+        int count = in.mapHeader();
+        for (int i = 0; i < count; i++) {
+            Object label = in.value();
+            Object value = in.value();
+            if (label instanceof Long l && l == ALG_LABEL && value instanceof Long alg) {
+                return alg;
+            }
+        }
+        throw new TokenVerificationException(TokenVerificationException.Reason.MALFORMED,
+                "COSE_Sign1 protected header has no alg");
+    }
+
+    private static String algorithmName(long coseAlgorithm) {
+        for (Map.Entry<String, Integer> entry : COSE_ALGORITHMS.entrySet()) {
+            if (entry.getValue() == coseAlgorithm) {
+                return entry.getKey();
+            }
+        }
+        return "COSE:" + coseAlgorithm;
+    }
+
+    static int coseAlgorithm(String algorithm) {
+        Integer id = COSE_ALGORITHMS.get(algorithm);
+        if (id == null) {
+            throw new IllegalArgumentException("No COSE algorithm id for " + algorithm);
+        }
+        return id;
+    }
+
+    /** Encodes {@code {1: alg}} as carried in the protected header bucket. */
+    static byte[] protectedHeader(String algorithm) {
+        return new Cbor.Writer(8).head(Cbor.MAP, 1).integer(ALG_LABEL).integer(coseAlgorithm(algorithm))
+                .toByteArray();
+    }
+
+    /** The Sig_structure {@code ["Signature1", protected, h'', payload]} that is signed. */
+    static byte[] sigStructure(byte[] protectedHeader, int protectedOffset, int protectedLength,
+            byte[] payload, int payloadOffset, int payloadLength) {
+        return new Cbor.Writer(protectedLength + payloadLength + 32)
+                .head(Cbor.ARRAY, 4)
+                .text("Signature1")
+                .bytes(protectedHeader, protectedOffset, protectedLength)
+                .bytes(new byte[0])
+                .bytes(payload, payloadOffset, payloadLength)
+                .toByteArray();
+    }
+
+    static String encode(byte[] protectedHeader, String keyId, byte[] payload, byte[] signature) {
+        Cbor.Writer out = new Cbor.Writer(protectedHeader.length + payload.length + signature.length + 64)
+                .head(Cbor.TAG, TAG)
+                .head(Cbor.ARRAY, 4)
+                .bytes(protectedHeader);
+        if (keyId != null) {
+            out.head(Cbor.MAP, 1).integer(KID_LABEL).bytes(keyId.getBytes(StandardCharsets.UTF_8));
+        } else {
+            out.head(Cbor.MAP, 0);
+        }
+        out.bytes(payload).bytes(signature);
+        return JwtSegments.base64UrlEncode(out.toByteArray());
+    }
+
+    String algorithm() {
+        return algorithm;
+    }
+
+    String keyId() {
+        return keyId;
+    }
+
+    byte[] signingInput() {
+        return sigStructure(data, protectedOffset, protectedLength, data, payloadOffset, payloadLength);
+    }
+
+    byte[] signature() {
+        return Arrays.copyOfRange(data, signatureOffset, signatureOffset + signatureLength);
+    }
+
+    Map<String, Object> claims() {
+        return CwtClaims.decode(data, payloadOffset, payloadLength);
+    }
+}
@@ -0,0 +1,89 @@
+package com.banking.security.jwt;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * CWT claim keys (RFC 8392). Registered claims use their integer keys and
+ * the service claims {@code userId} and {@code role} use private-use keys, so
+ * a typical token payload carries no claim names at all. Claims are decoded
+ * back to the JWT names, so a {@link VerifiedToken} looks the same whichever
+ * encoding the token used; other claims are carried as text keys.
+ */
+final class CwtClaims {
+
+    private static final Map<String, Integer> KEY_BY_NAME = new HashMap<>();
+    private static final Map<Long, String> NAME_BY_KEY = new HashMap<>();
+
+    static {
+        register("iss", 1);
+        register("sub", 2);
+        register("aud", 3);
+        register("exp", 4);
+        register("nbf", 5);
+        register("iat", 6);
+        register("jti", 7); // cti
+        register("userId", -65537);
+        register("role", -65538);
+    }
+
+    private CwtClaims() {
+    }
+
+    private static void register(String name, int key) {
+        KEY_BY_NAME.put(name, key);
+        NAME_BY_KEY.put((long) key, name);
+    }
+
+    static void encode(Map<String, Object> claims, Cbor.Writer out) {
+        out.head(Cbor.MAP, claims.size());
+        for (Map.Entry<String, Object> claim : claims.entrySet()) {
+            Integer key = KEY_BY_NAME.get(claim.getKey());
+            if (key != null) {
+                out.integer(key);
+            } else {
+                out.text(claim.getKey());
+            }
+            encodeValue(claim.getKey(), claim.getValue(), out);
+        }
+    }
+
+    private static void encodeValue(String name, Object value, Cbor.Writer out) {
+        if (value == null) {
+            out.nullValue();
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short) {
+            out.integer(((Number) value).longValue());
+        } else if (value instanceof String text) {
+            out.text(text);
+        } else if (value instanceof Boolean bool) {
+            out.bool(bool);
+        } else if (value instanceof byte[] bytes) {
+            out.bytes(bytes);
+        } else {
+            throw new IllegalArgumentException("Unsupported CWT claim type for " + name + ": " + value.getClass());
+        }
+    }
+
+    static Map<String, Object> decode(byte[] data, int offset, int length) {
+        Cbor.Reader in = new Cbor.Reader(data, offset, length);
+        int count = in.mapHeader();
+        Map<String, Object> claims = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            String name;
+            int type = in.peekMajorType();
+            if (type == Cbor.UNSIGNED || type == Cbor.NEGATIVE) {
+                long key = in.integer();
+                name = NAME_BY_KEY.getOrDefault(key, Long.toString(key));
+            } else {
+                name = in.text();
+            }
+            claims.put(name, in.value());
+        }
+        if (!in.atEnd()) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.MALFORMED,
+                    "Trailing bytes after CWT claims");
+        }
+        return claims;
+    }
+}
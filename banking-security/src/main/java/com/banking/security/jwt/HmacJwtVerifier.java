@@ -0,0 +1,62 @@
+package com.banking.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.HashMap;
+
+/**
+ * HS256 verifier. The HMAC key and the jjwt parser are built once; a built
+ * {@link JwtParser} is immutable and safe to share across request threads.
+ */
+public class HmacJwtVerifier extends AlgorithmJwtVerifier {
+
+    public static final String ALGORITHM = "HS256";
+
+    private final Key key;
+    private final JwtParser parser;
+
+    public HmacJwtVerifier(String secret) {
+        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+    }
+
+    @Override
+    public String algorithm() {
+        return ALGORITHM;
+    }
+
+    /** The shared HMAC key, for services that also issue HS256 tokens. */
+    public Key key() {
+        return key;
+    }
+
+    @Override
+    VerifiedToken verify(JwtSegments segments) {
+        try {
+            Claims claims = parser.parseClaimsJws(segments.token()).getBody();
+            return new VerifiedToken(ALGORITHM, segments.keyId(), new HashMap<>(claims));
+        } catch (ExpiredJwtException e) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.EXPIRED, "Token expired", e);
+        } catch (SignatureException e) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.BAD_SIGNATURE,
+                    "Invalid JWT signature", e);
+        } catch (MalformedJwtException | IllegalArgumentException e) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.MALFORMED, "Invalid JWT token", e);
+        } catch (UnsupportedJwtException e) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.UNSUPPORTED_ALGORITHM,
+                    "Unsupported JWT token", e);
+        } catch (JwtException e) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.BAD_SIGNATURE, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.banking.security.jwt;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * A compact JWS split into its three segments, with the header decoded once
+ * so the dispatcher and the algorithm verifier share it.
+ */
+final class JwtSegments {
+
+    static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private final String token;
+    private final int firstDot;
+    private final int secondDot;
+    private final Map<String, Object> header;
+
+    private JwtSegments(String token, int firstDot, int secondDot, Map<String, Object> header) {
+        this.token = token;
+        this.firstDot = firstDot;
+        this.secondDot = secondDot;
+        this.header = header;
+    }
+
+    static JwtSegments parse(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.MALFORMED, "Empty token");
+        }
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (firstDot <= 0 || secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.MALFORMED,
+                    "Token is not a compact JWS");
+        }
+        Map<String, Object> header = decodeJson(token.substring(0, firstDot));
+        return new JwtSegments(token, firstDot, secondDot, header);
+    }
+
+    String token() {
+        return token;
+    }
+
+    String algorithm() {
+        Object alg = header.get("alg");
+        return alg != null ? alg.toString() : null;
+    }
+
+    String keyId() {
+        Object kid = header.get("kid");
+        return kid != null ? kid.toString() : null;
+    }
+
+    byte[] signingInput() {
+        return token.substring(0, secondDot).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    String encodedPayload() {
+        return token.substring(firstDot + 1, secondDot);
+    }
+
+    byte[] signature() {
+        return base64UrlDecode(token.substring(secondDot + 1));
+    }
+
+    static Map<String, Object> decodeJson(String encoded) {
+        try {
+            return MAPPER.readValue(base64UrlDecode(encoded), MAP_TYPE);
+        } catch (IOException e) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.MALFORMED,
+                    "Token segment is not valid JSON", e);
+        }
+    }
+
+    static byte[] base64UrlDecode(String encoded) {
+        try {
+            return Base64.getUrlDecoder().decode(encoded);
+        } catch (IllegalArgumentException e) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.MALFORMED,
+                    "Token segment is not base64url", e);
+        }
+    }
+
+    static String base64UrlEncode(byte[] data) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(data);
+    }
+}
@@ -0,0 +1,51 @@
+package com.banking.security.jwt;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Single entry point for token verification. Decodes the JWS header once,
+ * reads {@code alg} and hands the token to the verifier registered for it,
+ * instead of trying each algorithm in turn. Tokens using an algorithm that
+ * is not registered are rejected without any cryptography, as are tokens
+ * over {@link AlgorithmJwtVerifier#MAX_TOKEN_LENGTH}. Tokens without a '.'
+ * are CBOR Web Tokens and dispatch on the COSE alg instead.
+ */
+public class JwtVerifier implements TokenVerifier {
+
+    private final Map<String, AlgorithmJwtVerifier> verifiers;
+
+    public JwtVerifier(AlgorithmJwtVerifier... verifiers) {
+        Map<String, AlgorithmJwtVerifier> byAlgorithm = new LinkedHashMap<>();
+        for (AlgorithmJwtVerifier verifier : verifiers) {
+            byAlgorithm.put(verifier.algorithm(), verifier);
+        }
+        this.verifiers = Collections.unmodifiableMap(byAlgorithm);
+    }
+
+    public Set<String> algorithms() {
+        return verifiers.keySet();
+    }
+
+    @Override
+    public VerifiedToken verify(String token) {
+        AlgorithmJwtVerifier.checkLength(token);
+        if (CoseSign1.isCwt(token)) {
+            CoseSign1 message = CoseSign1.parse(token);
+            return verifierFor(message.algorithm()).verify(message);
+        }
+        JwtSegments segments = JwtSegments.parse(token);
+        return verifierFor(segments.algorithm()).verify(segments);
+    }
+
+    private AlgorithmJwtVerifier verifierFor(String algorithm) {
+        AlgorithmJwtVerifier verifier = verifiers.get(algorithm);
+        if (verifier == null) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.UNSUPPORTED_ALGORITHM,
+                    "Unsupported token algorithm: " + algorithm);
+        }
+        return verifier;
+    }
+}
@@ -0,0 +1,27 @@
+package com.banking.security.jwt;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.util.Arrays;
+
+/**
+ * Key ids for published verification keys: the first 16 bytes of the
+ * SHA-256 of the key's X.509 (SubjectPublicKeyInfo) encoding, base64url.
+ * Both issuer and verifiers can derive it from the key alone, so a fetched
+ * key set can be checked against the ids it advertises.
+ */
+public final class KeyIds {
+
+    private KeyIds() {
+    }
+
+    public static String thumbprint(PublicKey key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getEncoded());
+            return JwtSegments.base64UrlEncode(Arrays.copyOf(digest, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.banking.security.jwt;
+
+import com.banking.security.crypto.ThreadLocalSignatures;
+
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.util.Map;
+
+/**
+ * Issues ML-DSA CBOR Web Tokens (COSE_Sign1, base64url) in the format
+ * {@link MlDsaJwtVerifier} accepts alongside compact JWTs. Registered and
+ * service claims are encoded with integer keys and the signature is carried
+ * as raw bytes, so the token is one base64 pass over binary data instead of
+ * JSON header, JSON payload and signature each base64url-encoded.
+ */
+public class MlDsaCwtSigner implements TokenSigner {
+
+    private final String algorithm;
+    private final byte[] protectedHeader;
+    private final ThreadLocalSignatures signatures;
+
+    public MlDsaCwtSigner(String algorithm, String provider) {
+        this.algorithm = algorithm;
+        this.protectedHeader = CoseSign1.protectedHeader(algorithm);
+        this.signatures = new ThreadLocalSignatures(algorithm, provider);
+    }
+
+    @Override
+    public String algorithm() {
+        return algorithm;
+    }
+
+    @Override
+    public String sign(Map<String, Object> claims, PrivateKey privateKey, String keyId) {
+        Cbor.Writer payloadWriter = new Cbor.Writer(128);
+        CwtClaims.encode(claims, payloadWriter);
+        byte[] payload = payloadWriter.toByteArray();
+        try {
+            byte[] signature = signatures.sign(privateKey, CoseSign1.sigStructure(
+                    protectedHeader, 0, protectedHeader.length, payload, 0, payload.length));
+            return CoseSign1.encode(protectedHeader, keyId, payload, signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Error generating " + algorithm + " CWT", e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.banking.security.jwt;
+
+import com.banking.security.crypto.ThreadLocalSignatures;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Issues compact ML-DSA JWTs in the format {@link MlDsaJwtVerifier} accepts:
+ * base64url JSON header and payload, signature over the ASCII
+ * {@code header.payload} string. Signature objects are reused per thread
+ * and key.
+ */
+public class MlDsaJwtSigner implements TokenSigner {
+
+    private final String algorithm;
+    private final ThreadLocalSignatures signatures;
+
+    public MlDsaJwtSigner(String algorithm, String provider) {
+        this.algorithm = algorithm;
+        this.signatures = new ThreadLocalSignatures(algorithm, provider);
+    }
+
+    @Override
+    public String algorithm() {
+        return algorithm;
+    }
+
+    @Override
+    public String sign(Map<String, Object> claims, PrivateKey privateKey, String keyId) {
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("alg", algorithm);
+        header.put("typ", "JWT");
+        if (keyId != null) {
+            header.put("kid", keyId);
+        }
+        try {
+            String signingInput = JwtSegments.base64UrlEncode(JwtSegments.MAPPER.writeValueAsBytes(header))
+                    + "." + JwtSegments.base64UrlEncode(JwtSegments.MAPPER.writeValueAsBytes(claims));
+
+            byte[] signature = signatures.sign(privateKey, signingInput.getBytes(StandardCharsets.US_ASCII));
+            return signingInput + "." + JwtSegments.base64UrlEncode(signature);
+        } catch (JsonProcessingException | GeneralSecurityException e) {
+            throw new IllegalStateException("Error generating " + algorithm + " JWT", e);
+        }
+    }
+}
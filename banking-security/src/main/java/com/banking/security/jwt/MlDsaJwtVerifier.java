@@ -0,0 +1,110 @@
+package com.banking.security.jwt;
+
+import com.banking.security.crypto.ThreadLocalSignatures;
+
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.util.Map;
+
+/**
+ * ML-DSA verifier for the hand-built PQ JWTs issued by auth-service (jjwt has
+ * no PQ algorithms). The verification key is looked up by {@code kid}
+ * through a {@link PublicKeyResolver}, so keys can be fetched lazily and
+ * rotated without rebuilding the verifier. Signature objects are reused per
+ * thread and key (see {@link ThreadLocalSignatures}). The same verifier also
+ * accepts the CWT encoding issued by {@link MlDsaCwtSigner}.
+ * <p>
+ * Everything that can reject a token without cryptography runs first: the
+ * kid must resolve to a key, the signature must have the parameter set's
+ * fixed length, and the payload must parse and be unexpired. Only then is
+ * the signature verified, so junk and expired tokens cost microseconds
+ * rather than a full ML-DSA verification.
+ */
+public class MlDsaJwtVerifier extends AlgorithmJwtVerifier {
+
+    /** FIPS 204 signature sizes in bytes. */
+    private static final Map<String, Integer> SIGNATURE_LENGTHS = Map.of(
+            "ML-DSA-44", 2420,
+            "ML-DSA-65", 3309,
+            "ML-DSA-87", 4627);
+
+    private final String algorithm;
+    private final int signatureLength;
+    private final ThreadLocalSignatures signatures;
+    private final PublicKeyResolver keyResolver;
+
+    /**
+     * @param algorithm   JCA and JWS algorithm name, e.g. {@code ML-DSA-65}
+     * @param provider    JCA provider name, e.g. {@code BC}
+     * @param keyResolver source of verification keys
+     */
+    public MlDsaJwtVerifier(String algorithm, String provider, PublicKeyResolver keyResolver) {
+        this.algorithm = algorithm;
+        this.signatureLength = SIGNATURE_LENGTHS.getOrDefault(algorithm, -1);
+        this.signatures = new ThreadLocalSignatures(algorithm, provider);
+        this.keyResolver = keyResolver;
+    }
+
+    @Override
+    public String algorithm() {
+        return algorithm;
+    }
+
+    @Override
+    VerifiedToken verify(JwtSegments segments) {
+        String keyId = segments.keyId();
+        PublicKey publicKey = resolveKey(keyId);
+        byte[] signatureBytes = segments.signature();
+        checkSignatureLength(signatureBytes);
+
+        VerifiedToken token = new VerifiedToken(algorithm, keyId, JwtSegments.decodeJson(segments.encodedPayload()));
+        checkExpiry(token);
+
+        verifySignature(publicKey, segments.signingInput(), signatureBytes);
+        return token;
+    }
+
+    @Override
+    VerifiedToken verify(CoseSign1 message) {
+        String keyId = message.keyId();
+        PublicKey publicKey = resolveKey(keyId);
+        byte[] signatureBytes = message.signature();
+        checkSignatureLength(signatureBytes);
+
+        VerifiedToken token = new VerifiedToken(algorithm, keyId, message.claims());
+        checkExpiry(token);
+
+        verifySignature(publicKey, message.signingInput(), signatureBytes);
+        return token;
+    }
+
+    private PublicKey resolveKey(String keyId) {
+        PublicKey publicKey = keyResolver.resolve(keyId);
+        if (publicKey == null) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.UNKNOWN_KEY,
+                    "No " + algorithm + " key for kid " + keyId);
+        }
+        return publicKey;
+    }
+
+    private void checkSignatureLength(byte[] signatureBytes) {
+        if (signatureLength > 0 && signatureBytes.length != signatureLength) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.MALFORMED,
+                    algorithm + " signature must be " + signatureLength + " bytes, got " + signatureBytes.length);
+        }
+    }
+
+    private void verifySignature(PublicKey publicKey, byte[] signingInput, byte[] signatureBytes) {
+        boolean valid;
+        try {
+            valid = signatures.verify(publicKey, signingInput, signatureBytes);
+        } catch (GeneralSecurityException e) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.BAD_SIGNATURE,
+                    "Could not verify " + algorithm + " signature", e);
+        }
+        if (!valid) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.BAD_SIGNATURE,
+                    "Invalid PQ JWT signature");
+        }
+    }
+}
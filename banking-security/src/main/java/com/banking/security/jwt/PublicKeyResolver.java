@@ -0,0 +1,13 @@
+package com.banking.security.jwt;
+
+import java.security.PublicKey;
+
+/**
+ * Looks up the verification key for a token's {@code kid}. The key id is
+ * null for tokens issued without one; resolvers typically return their
+ * current key in that case. Returns null when no key matches.
+ */
+@FunctionalInterface
+public interface PublicKeyResolver {
+    PublicKey resolve(String keyId);
+}
@@ -0,0 +1,95 @@
+package com.banking.security.jwt;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.logging.Log;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-reason counts of rejected tokens, and a per-reason log rate limit so a
+ * flood of bad tokens costs a counter increment rather than a log line each.
+ * Services export the counts with {@link #bindTo}; callers log through
+ * {@link #logRejected}, or only when {@link #record} returns true.
+ */
+public class TokenRejections {
+
+    private final long logIntervalNanos;
+    private final Map<TokenVerificationException.Reason, LongAdder> counts =
+            new EnumMap<>(TokenVerificationException.Reason.class);
+    private final Map<TokenVerificationException.Reason, AtomicLong> nextLogAt =
+            new EnumMap<>(TokenVerificationException.Reason.class);
+    private final Map<TokenVerificationException.Reason, LongAdder> suppressed =
+            new EnumMap<>(TokenVerificationException.Reason.class);
+
+    /**
+     * @param logIntervalMillis minimum time between two loggable rejections of the same reason
+     */
+    public TokenRejections(long logIntervalMillis) {
+        this.logIntervalNanos = TimeUnit.MILLISECONDS.toNanos(logIntervalMillis);
+        long now = System.nanoTime();
+        for (TokenVerificationException.Reason reason : TokenVerificationException.Reason.values()) {
+            counts.put(reason, new LongAdder());
+            nextLogAt.put(reason, new AtomicLong(now));
+            suppressed.put(reason, new LongAdder());
+        }
+    }
+
+    /**
+     * Counts one rejection.
+     *
+     * @return true if the caller should log it; see {@link #drainSuppressed}
+     *         for how many were not logged since
+     */
+    public boolean record(TokenVerificationException.Reason reason) {
+        counts.get(reason).increment();
+        AtomicLong next = nextLogAt.get(reason);
+        long now = System.nanoTime();
+        long due = next.get();
+        if (now - due >= 0 && next.compareAndSet(due, now + logIntervalNanos)) {
+            return true;
+        }
+        suppressed.get(reason).increment();
+        return false;
+    }
+
+    /**
+     * Rejections of this reason that were counted but not logged since the
+     * last call, for a "(n similar suppressed)" suffix.
+     */
+    public long drainSuppressed(TokenVerificationException.Reason reason) {
+        return suppressed.get(reason).sumThenReset();
+    }
+
+    public long count(TokenVerificationException.Reason reason) {
+        return counts.get(reason).sum();
+    }
+
+    /**
+     * Exports the counts as jwt.rejections{reason}.
+     */
+    public TokenRejections bindTo(MeterRegistry registry) {
+        for (TokenVerificationException.Reason reason : TokenVerificationException.Reason.values()) {
+            FunctionCounter.builder("jwt.rejections", this, r -> r.count(reason))
+                    .tag("reason", reason.name())
+                    .register(registry);
+        }
+        return this;
+    }
+
+    /**
+     * Counts one rejection and logs it at info if this reason is due, with
+     * the number of similar rejections not logged since.
+     */
+    public void logRejected(Log log, TokenVerificationException.Reason reason, String message) {
+        if (record(reason)) {
+            long notLogged = drainSuppressed(reason);
+            log.info("Token rejected (" + reason + "): " + message
+                    + (notLogged > 0 ? " [" + notLogged + " similar not logged]" : ""));
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.banking.security.jwt;
+
+import java.security.PrivateKey;
+import java.util.Map;
+
+/**
+ * Issues signed tokens in one encoding for one algorithm.
+ */
+public interface TokenSigner {
+
+    String algorithm();
+
+    /**
+     * @param claims     payload claims
+     * @param privateKey signing key
+     * @param keyId      {@code kid} header value, or null to omit it
+     */
+    String sign(Map<String, Object> claims, PrivateKey privateKey, String keyId);
+}
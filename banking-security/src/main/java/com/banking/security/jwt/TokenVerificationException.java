@@ -0,0 +1,43 @@
+package com.banking.security.jwt;
+
+/**
+ * Thrown when a token cannot be verified. The {@link Reason} lets callers
+ * count and log failures by cause without parsing messages.
+ */
+public class TokenVerificationException extends RuntimeException {
+
+    public enum Reason {
+        MALFORMED,
+        UNSUPPORTED_ALGORITHM,
+        UNKNOWN_KEY,
+        BAD_SIGNATURE,
+        EXPIRED,
+        /** Valid token that has since been revoked; raised by callers of the revocation list. */
+        REVOKED
+    }
+
+    private final Reason reason;
+
+    public TokenVerificationException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public TokenVerificationException(Reason reason, String message, Throwable cause) {
+        super(message, cause);
+        this.reason = reason;
+    }
+
+    /**
+     * Without a stack trace, for rejections answered from a cache where the
+     * trace would cost more than the check.
+     */
+    TokenVerificationException(Reason reason, String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.reason = reason;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+}
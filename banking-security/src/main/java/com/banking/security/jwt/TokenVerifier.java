@@ -0,0 +1,11 @@
+package com.banking.security.jwt;
+
+public interface TokenVerifier {
+
+    /**
+     * Verifies signature and expiry and returns the claims.
+     *
+     * @throws TokenVerificationException if the token is not acceptable
+     */
+    VerifiedToken verify(String token);
+}
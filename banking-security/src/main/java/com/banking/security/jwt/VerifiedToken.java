@@ -0,0 +1,49 @@
+package com.banking.security.jwt;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Claims of a token whose signature and expiry have been checked.
+ *
+ * @param algorithm the JWS {@code alg} the token was verified with
+ * @param keyId     the {@code kid} header, or null if the token had none
+ * @param claims    the payload, unmodifiable
+ */
+public record VerifiedToken(String algorithm, String keyId, Map<String, Object> claims) {
+
+    public VerifiedToken {
+        claims = Collections.unmodifiableMap(claims);
+    }
+
+    public Object claim(String name) {
+        return claims.get(name);
+    }
+
+    public String subject() {
+        Object sub = claims.get("sub");
+        return sub != null ? sub.toString() : null;
+    }
+
+    public Long userId() {
+        Object userId = claims.get("userId");
+        if (userId instanceof Number) {
+            return ((Number) userId).longValue();
+        }
+        if (userId instanceof String) {
+            return Long.parseLong((String) userId);
+        }
+        return null;
+    }
+
+    public String role() {
+        Object role = claims.get("role");
+        return role != null ? role.toString() : null;
+    }
+
+    /** Expiry in epoch seconds, or null if the token has no {@code exp}. */
+    public Long expiresAtEpochSecond() {
+        Object exp = claims.get("exp");
+        return exp instanceof Number ? ((Number) exp).longValue() : null;
+    }
+}
@@ -0,0 +1,59 @@
+package com.banking.security.revocation;
+
+/**
+ * Fixed-size Bloom filter over strings, immutable once built. Sized for a
+ * ~1% false-positive rate; a positive is always confirmed against the exact
+ * set, so false positives only cost a hash lookup.
+ */
+final class BloomFilter {
+
+    private static final double BITS_PER_ENTRY = 9.6;
+    private static final int HASHES = 7;
+
+    private final long[] bits;
+    private final int bitCount;
+
+    BloomFilter(int expectedEntries) {
+        long wanted = Math.max(64, (long) Math.ceil(expectedEntries * BITS_PER_ENTRY));
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63, wanted);
+        this.bits = new long[(bitCount + 63) >>> 6];
+    }
+
+    void add(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < HASHES; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            bits[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < HASHES; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** 64-bit FNV-1a over the chars, finished with the MurmurHash3 mixer. */
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
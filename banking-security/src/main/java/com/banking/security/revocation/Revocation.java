@@ -0,0 +1,20 @@
+package com.banking.security.revocation;
+
+/**
+ * One revocation as replicated from auth-service.
+ *
+ * @param id                   position in auth-service's revocation log, used as the delta cursor
+ * @param type                 what {@code subject} identifies
+ * @param subject              the token's {@code jti}, or the user id for {@link Type#USER}
+ * @param revokedAtEpochSecond for {@link Type#USER}, tokens issued before this second are revoked
+ * @param expiresAtEpochSecond after this the entry can be dropped: every token it matches has expired
+ */
+public record Revocation(long id, Type type, String subject, long revokedAtEpochSecond, long expiresAtEpochSecond) {
+
+    public enum Type {
+        /** A single token, by jti. */
+        TOKEN,
+        /** Every token of a user issued before the second of the revocation. */
+        USER
+    }
+}
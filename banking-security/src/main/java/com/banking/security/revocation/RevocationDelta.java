@@ -0,0 +1,13 @@
+package com.banking.security.revocation;
+
+import java.util.List;
+
+/**
+ * Page of revocations after a cursor, as served by auth-service's
+ * {@code GET /api/auth/revocations?since=}.
+ *
+ * @param cursor id of the last entry after the request's cursor (the request's
+ *               cursor if none); replayed earlier entries may also be included
+ */
+public record RevocationDelta(long cursor, List<Revocation> revocations) {
+}
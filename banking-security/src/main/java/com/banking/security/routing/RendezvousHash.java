@@ -0,0 +1,78 @@
+package com.banking.security.routing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rendezvous (highest-random-weight) hashing over a fixed node list. Every
+ * node gets a score per key and the highest score owns the key; the rest of
+ * the ranking is the failover order. Adding or removing a node only moves the
+ * keys that node wins or owned.
+ *
+ * account-service uses it to report which node owns an account and
+ * transaction-service to route requests to that node, so both sides share
+ * this one implementation: FNV-1a 64 over the UTF-8 bytes, combined with a
+ * SplitMix64 finalizer, compared as unsigned.
+ */
+public final class RendezvousHash {
+
+    private final List<String> nodes;
+    private final long[] nodeHashes;
+
+    public RendezvousHash(List<String> nodes) {
+        this.nodes = List.copyOf(nodes);
+        this.nodeHashes = new long[nodes.size()];
+        for (int i = 0; i < nodes.size(); i++) {
+            nodeHashes[i] = fnv1a64(nodes.get(i));
+        }
+    }
+
+    public List<String> nodes() {
+        return nodes;
+    }
+
+    public String owner(String key) {
+        long keyHash = fnv1a64(key);
+        int best = -1;
+        long bestScore = 0;
+        for (int i = 0; i < nodeHashes.length; i++) {
+            long score = mix64(nodeHashes[i] ^ keyHash);
+            if (best < 0 || Long.compareUnsigned(score, bestScore) > 0) {
+                best = i;
+                bestScore = score;
+            }
+        }
+        return best < 0 ? null : nodes.get(best);
+    }
+
+    /** All nodes, best first. */
+    public List<String> ranked(String key) {
+        long keyHash = fnv1a64(key);
+        List<Integer> order = new ArrayList<>(nodes.size());
+        long[] scores = new long[nodes.size()];
+        for (int i = 0; i < nodeHashes.length; i++) {
+            scores[i] = mix64(nodeHashes[i] ^ keyHash);
+            order.add(i);
+        }
+        order.sort((a, b) -> Long.compareUnsigned(scores[b], scores[a]));
+        List<String> ranked = new ArrayList<>(order.size());
+        order.forEach(i -> ranked.add(nodes.get(i)));
+        return ranked;
+    }
+
+    static long fnv1a64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,28 @@
+package com.banking.security.session;
+
+import com.banking.security.crypto.Hkdf;
+
+/**
+ * HKDF-SHA256 derivations for PQ sessions. Client and server both run
+ * {@link #sessionKey(byte[])} on the ML-KEM shared secret, so the secret
+ * itself is never used as a MAC key.
+ */
+public final class SessionKeys {
+
+    public static final int KEY_LENGTH = 32;
+
+    static final String SESSION_KEY_INFO = "banking-session-key-v1";
+    static final String TICKET_KEY_INFO = "banking-session-ticket-v1";
+
+    private SessionKeys() {
+    }
+
+    /** Request MAC key for a session, derived from the ML-KEM shared secret. */
+    public static byte[] sessionKey(byte[] sharedSecret) {
+        return hkdf(sharedSecret, SESSION_KEY_INFO);
+    }
+
+    static byte[] hkdf(byte[] inputKeyMaterial, String info) {
+        return Hkdf.sha256(inputKeyMaterial, info, KEY_LENGTH);
+    }
+}
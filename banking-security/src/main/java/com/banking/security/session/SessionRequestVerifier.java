@@ -0,0 +1,141 @@
+package com.banking.security.session;
+
+import com.banking.security.jwt.TokenVerificationException;
+import com.banking.security.jwt.VerifiedToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Authenticates requests made under a PQ session. Each request carries the
+ * session id, a timestamp and HMAC-SHA256(session key, method, path and
+ * query, timestamp); after the first request of a session the ticket comes
+ * from a bounded in-process table, so a request costs one HMAC instead of an
+ * ML-DSA verification. The timestamp bounds replay of a captured request to
+ * the allowed clock skew; request bodies are not covered.
+ */
+public class SessionRequestVerifier {
+
+    public static final String MAC_ALGORITHM = "HmacSHA256";
+
+    private static final ThreadLocal<Mac> MACS = ThreadLocal.withInitial(() -> {
+        try {
+            return Mac.getInstance(MAC_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(MAC_ALGORITHM + " not available", e);
+        }
+    });
+
+    private final SessionTickets tickets;
+    private final long maxClockSkewSeconds;
+    private final Cache<String, SessionTicket> sessions;
+
+    public SessionRequestVerifier(SessionTickets tickets, long maxSize, long maxClockSkewSeconds) {
+        this.tickets = tickets;
+        this.maxClockSkewSeconds = maxClockSkewSeconds;
+        this.sessions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TicketExpiry())
+                .build();
+    }
+
+    /**
+     * @param timestamp epoch seconds as sent by the client
+     * @param signature base64url HMAC over {@link #signingInput}
+     * @throws TokenVerificationException if the session is unknown or expired,
+     *                                    the timestamp is outside the allowed
+     *                                    skew, or the MAC does not match
+     */
+    public VerifiedToken verify(String sessionId, String timestamp, String signature, String method,
+            String pathAndQuery) {
+        if (sessionId == null || timestamp == null || signature == null) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.MALFORMED,
+                    "Session request is missing its timestamp or signature");
+        }
+        long now = System.currentTimeMillis() / 1000;
+        long sentAt;
+        try {
+            sentAt = Long.parseLong(timestamp);
+        } catch (NumberFormatException e) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.MALFORMED,
+                    "Invalid session timestamp", e);
+        }
+        if (Math.abs(now - sentAt) > maxClockSkewSeconds) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.EXPIRED,
+                    "Session request timestamp outside allowed clock skew");
+        }
+
+        SessionTicket ticket = sessions.get(sessionId, tickets::open);
+        if (ticket.isExpired(now)) {
+            sessions.invalidate(sessionId);
+            throw new TokenVerificationException(TokenVerificationException.Reason.EXPIRED, "Session expired");
+        }
+
+        byte[] expected = mac(ticket.key(), signingInput(method, pathAndQuery, timestamp));
+        byte[] presented;
+        try {
+            presented = Base64.getUrlDecoder().decode(signature);
+        } catch (IllegalArgumentException e) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.MALFORMED,
+                    "Session signature is not base64url", e);
+        }
+        if (!MessageDigest.isEqual(expected, presented)) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.BAD_SIGNATURE,
+                    "Invalid session request signature");
+        }
+        return ticket.toVerifiedToken();
+    }
+
+    public long size() {
+        return sessions.estimatedSize();
+    }
+
+    /** The bytes a client MACs for one request. */
+    public static byte[] signingInput(String method, String pathAndQuery, String timestamp) {
+        return (method + '\n' + pathAndQuery + '\n' + timestamp).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** Client-side helper: base64url request signature under a session key. */
+    public static String sign(byte[] sessionKey, String method, String pathAndQuery, String timestamp) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(mac(sessionKey, signingInput(method, pathAndQuery, timestamp)));
+    }
+
+    private static byte[] mac(byte[] key, byte[] input) {
+        Mac mac = MACS.get();
+        try {
+            mac.init(new SecretKeySpec(key, MAC_ALGORITHM));
+        } catch (InvalidKeyException e) {
+            throw new IllegalStateException("Invalid session key", e);
+        }
+        return mac.doFinal(input);
+    }
+
+    private static final class TicketExpiry implements Expiry<String, SessionTicket> {
+
+        @Override
+        public long expireAfterCreate(String key, SessionTicket ticket, long currentTime) {
+            long remainingMillis = ticket.expiresAtEpochSecond() * 1000 - System.currentTimeMillis();
+            return Math.max(0, TimeUnit.MILLISECONDS.toNanos(remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, SessionTicket ticket, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, SessionTicket ticket, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
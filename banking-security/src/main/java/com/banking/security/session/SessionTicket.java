@@ -0,0 +1,42 @@
+package com.banking.security.session;
+
+import com.banking.security.jwt.VerifiedToken;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * State of one PQ session: the derived request MAC key and the identity it
+ * was established for.
+ *
+ * @param key                  HMAC-SHA256 key derived from the ML-KEM shared secret
+ * @param issuedAtEpochSecond  start of the session, compared against user-wide revocations
+ * @param expiresAtEpochSecond end of the session
+ */
+public record SessionTicket(byte[] key, Long userId, String username, String role, long issuedAtEpochSecond,
+        long expiresAtEpochSecond) {
+
+    public static final String ALGORITHM = "ML-KEM-768+HS256";
+
+    public boolean isExpired(long nowEpochSecond) {
+        return nowEpochSecond >= expiresAtEpochSecond;
+    }
+
+    /**
+     * The session's identity in the shape filters already build principals
+     * from, with the same claim names as a JWT.
+     */
+    public VerifiedToken toVerifiedToken() {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("sub", username);
+        if (userId != null) {
+            claims.put("userId", userId);
+        }
+        if (role != null) {
+            claims.put("role", role);
+        }
+        claims.put("iat", issuedAtEpochSecond);
+        claims.put("exp", expiresAtEpochSecond);
+        return new VerifiedToken(ALGORITHM, null, claims);
+    }
+}
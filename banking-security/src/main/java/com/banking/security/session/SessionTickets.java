@@ -0,0 +1,126 @@
+package com.banking.security.session;
+
+import com.banking.security.jwt.TokenVerificationException;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Seals a {@link SessionTicket} into an opaque session id (AES-256-GCM under
+ * a key derived from the shared jwt.secret) and opens it again. Any service
+ * holding the secret can recover the session from the id alone, so the
+ * session table needs no shared storage between auth-service and the
+ * services that accept session requests.
+ */
+public class SessionTickets {
+
+    private static final byte VERSION = 1;
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    private final SecretKeySpec sealingKey;
+    private final SecureRandom random = new SecureRandom();
+
+    public SessionTickets(String secret) {
+        this.sealingKey = new SecretKeySpec(
+                SessionKeys.hkdf(secret.getBytes(StandardCharsets.UTF_8), SessionKeys.TICKET_KEY_INFO), "AES");
+    }
+
+    public String seal(SessionTicket ticket) {
+        try {
+            byte[] iv = new byte[IV_LENGTH];
+            random.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, sealingKey, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(new byte[] { VERSION });
+            byte[] sealed = cipher.doFinal(serialize(ticket));
+
+            byte[] id = new byte[1 + IV_LENGTH + sealed.length];
+            id[0] = VERSION;
+            System.arraycopy(iv, 0, id, 1, IV_LENGTH);
+            System.arraycopy(sealed, 0, id, 1 + IV_LENGTH, sealed.length);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(id);
+        } catch (GeneralSecurityException | IOException e) {
+            throw new IllegalStateException("Could not seal session ticket", e);
+        }
+    }
+
+    /**
+     * @throws TokenVerificationException if the id was not sealed with this
+     *                                    secret or the session has expired
+     */
+    public SessionTicket open(String sessionId) {
+        byte[] id;
+        try {
+            id = Base64.getUrlDecoder().decode(sessionId);
+        } catch (IllegalArgumentException e) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.MALFORMED,
+                    "Session id is not base64url", e);
+        }
+        if (id.length <= 1 + IV_LENGTH || id[0] != VERSION) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.MALFORMED,
+                    "Unsupported session id");
+        }
+
+        SessionTicket ticket;
+        try {
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, sealingKey, new GCMParameterSpec(TAG_BITS, id, 1, IV_LENGTH));
+            cipher.updateAAD(id, 0, 1);
+            ticket = deserialize(cipher.doFinal(id, 1 + IV_LENGTH, id.length - 1 - IV_LENGTH));
+        } catch (AEADBadTagException e) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.BAD_SIGNATURE,
+                    "Session id was not issued by this deployment", e);
+        } catch (GeneralSecurityException | IOException e) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.MALFORMED,
+                    "Invalid session id", e);
+        }
+        if (ticket.isExpired(System.currentTimeMillis() / 1000)) {
+            throw new TokenVerificationException(TokenVerificationException.Reason.EXPIRED, "Session expired");
+        }
+        return ticket;
+    }
+
+    private static byte[] serialize(SessionTicket ticket) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(96);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.write(ticket.key());
+            out.writeLong(ticket.issuedAtEpochSecond());
+            out.writeLong(ticket.expiresAtEpochSecond());
+            out.writeBoolean(ticket.userId() != null);
+            out.writeLong(ticket.userId() != null ? ticket.userId() : 0);
+            out.writeUTF(ticket.username());
+            out.writeUTF(ticket.role() != null ? ticket.role() : "");
+        }
+        return bytes.toByteArray();
+    }
+
+    private static SessionTicket deserialize(byte[] plaintext) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(plaintext))) {
+            byte[] key = new byte[SessionKeys.KEY_LENGTH];
+            in.readFully(key);
+            long issuedAt = in.readLong();
+            long expiresAt = in.readLong();
+            boolean hasUserId = in.readBoolean();
+            long userId = in.readLong();
+            String username = in.readUTF();
+            String role = in.readUTF();
+            return new SessionTicket(key, hasUserId ? userId : null, username, role.isEmpty() ? null : role,
+                    issuedAt, expiresAt);
+        } finally {
+            Arrays.fill(plaintext, (byte) 0);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.banking.security.tls;
+
+import org.apache.tomcat.util.net.SSLHostConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Runs the embedded server's TLS (server.ssl.*) on BouncyCastle JSSE with
+ * hybrid X25519+ML-KEM-768 key exchange, so PQ deployments no longer need
+ * the nginx proxy in front. The TLS session cache is sized here as well;
+ * resumed sessions skip the key exchange entirely.
+ * <p>
+ * Picked up by every service that depends on banking-security and runs
+ * embedded Tomcat; off unless tls.server.pq.enabled is set.
+ */
+@AutoConfiguration
+@ConditionalOnClass(TomcatServletWebServerFactory.class)
+@ConditionalOnProperty(name = "tls.server.pq.enabled", havingValue = "true")
+public class PqServerTlsAutoConfiguration {
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> pqTlsCustomizer(
+            @Value("${tls.server.pq.named-groups:" + PqTls.DEFAULT_NAMED_GROUPS + "}") String namedGroups,
+            @Value("${tls.server.session-cache-size:20000}") int sessionCacheSize,
+            @Value("${tls.server.session-timeout-seconds:86400}") int sessionTimeoutSeconds) {
+        // Before Tomcat builds its SSLContext
+        PqTls.installProviders(namedGroups);
+        return factory -> factory.addConnectorCustomizers(connector -> {
+            for (SSLHostConfig sslHostConfig : connector.findSslHostConfigs()) {
+                sslHostConfig.setSessionCacheSize(sessionCacheSize);
+                sslHostConfig.setSessionTimeout(sessionTimeoutSeconds);
+            }
+        });
+    }
+}
@@ -0,0 +1,49 @@
+package com.banking.security.tls;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.bouncycastle.jsse.provider.BouncyCastleJsseProvider;
+
+import java.security.Provider;
+import java.security.Security;
+
+/**
+ * Makes BouncyCastle JSSE the process-wide TLS implementation so that
+ * {@code SSLContext.getInstance("TLS")}, and with it embedded Tomcat, can
+ * negotiate the hybrid X25519MLKEM768 key exchange. The JDK provider in
+ * Java 17 has no ML-KEM groups.
+ * <p>
+ * Groups are offered in the configured order; listing classic groups after
+ * the hybrid one keeps clients without ML-KEM working. Hybrid groups need
+ * TLS 1.3.
+ */
+public final class PqTls {
+
+    public static final String DEFAULT_NAMED_GROUPS = "X25519MLKEM768,x25519,secp256r1";
+
+    private static final String NAMED_GROUPS_PROPERTY = "jdk.tls.namedGroups";
+
+    private PqTls() {
+    }
+
+    /**
+     * Registers BCJSSE ahead of the JDK providers, backed by the BC provider
+     * for its crypto. Must run before the first SSLContext is created; later
+     * calls are no-ops.
+     *
+     * @param namedGroups comma-separated key exchange groups, most preferred first
+     */
+    public static synchronized void installProviders(String namedGroups) {
+        if (Security.getProvider("BCJSSE") != null) {
+            return;
+        }
+        if (namedGroups != null && !namedGroups.isBlank()) {
+            System.setProperty(NAMED_GROUPS_PROPERTY, namedGroups.replace(" ", ""));
+        }
+        Provider bc = Security.getProvider("BC");
+        if (bc == null) {
+            bc = new BouncyCastleProvider();
+            Security.addProvider(bc);
+        }
+        Security.insertProviderAt(new BouncyCastleJsseProvider(bc), 1);
+    }
+}
@@ -0,0 +1,118 @@
+package com.banking.security.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Hostile CBOR must fail as a MALFORMED token, never as an OutOfMemoryError,
+ * StackOverflowError or other runtime exception: it is parsed before the
+ * signature is checked.
+ */
+class CborTest {
+
+    @Test
+    void arrayCountLargerThanInputIsMalformed() {
+        // array(0x7fffffff), no elements
+        assertMalformed(() -> read(0x9a, 0x7f, 0xff, 0xff, 0xff));
+    }
+
+    @Test
+    void arrayCountBeyondIntIsMalformed() {
+        // array(0xffffffff)
+        assertMalformed(() -> read(0x9a, 0xff, 0xff, 0xff, 0xff));
+    }
+
+    @Test
+    void arrayCountWithSignBitIsMalformed() {
+        // array(2^64 - 1), which reads as a negative long
+        assertMalformed(() -> read(0x9b, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff));
+    }
+
+    @Test
+    void mapCountOverflowingTwiceIsMalformed() {
+        // map(0x40000000): 2 * count overflows an int
+        assertMalformed(() -> read(0xba, 0x40, 0x00, 0x00, 0x00, 0x00, 0x00));
+    }
+
+    @Test
+    void claimsMapCountLargerThanInputIsMalformed() {
+        byte[] data = bytes(0xba, 0x7f, 0xff, 0xff, 0xff, 0x01, 0x00);
+        assertMalformed(() -> CwtClaims.decode(data, 0, data.length));
+    }
+
+    @Test
+    void byteStringLengthLargerThanInputIsMalformed() {
+        assertMalformed(() -> read(0x5a, 0x7f, 0xff, 0xff, 0xff, 0x00));
+    }
+
+    @Test
+    void deeplyNestedArraysAreMalformed() {
+        byte[] data = new byte[100_000];
+        Arrays.fill(data, (byte) 0x81); // array(1), nested
+        data[data.length - 1] = 0x00;
+        assertMalformed(() -> new Cbor.Reader(data, 0, data.length).value());
+    }
+
+    @Test
+    void deeplyNestedTagsAreMalformed() {
+        byte[] data = new byte[100_000];
+        Arrays.fill(data, (byte) 0xc0); // tag(0), nested
+        data[data.length - 1] = 0x00;
+        assertMalformed(() -> new Cbor.Reader(data, 0, data.length).value());
+    }
+
+    @Test
+    void nestingUpToTheLimitIsAccepted() {
+        byte[] data = new byte[Cbor.MAX_DEPTH + 1];
+        Arrays.fill(data, (byte) 0x81);
+        data[data.length - 1] = 0x00;
+        Object value = new Cbor.Reader(data, 0, data.length).value();
+        for (int i = 0; i < Cbor.MAX_DEPTH; i++) {
+            value = ((List<?>) value).get(0);
+        }
+        assertEquals(0L, value);
+    }
+
+    @Test
+    void oversizedUnprotectedHeaderIsMalformed() {
+        // tag(18) [h'a1013830', map(0x7fffffff) ...]
+        byte[] data = bytes(0xd2, 0x84, 0x44, 0xa1, 0x01, 0x38, 0x30, 0xba, 0x7f, 0xff, 0xff, 0xff);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(data);
+        assertMalformed(() -> CoseSign1.parse(token));
+    }
+
+    @Test
+    void wellFormedClaimsDecode() {
+        Cbor.Writer out = new Cbor.Writer(32);
+        CwtClaims.encode(Map.of("sub", "alice", "exp", 1_700_000_000L), out);
+        byte[] data = out.toByteArray();
+        Map<String, Object> claims = CwtClaims.decode(data, 0, data.length);
+        assertEquals("alice", claims.get("sub"));
+        assertEquals(1_700_000_000L, claims.get("exp"));
+    }
+
+    private static Object read(int... data) {
+        byte[] bytes = bytes(data);
+        return new Cbor.Reader(bytes, 0, bytes.length).value();
+    }
+
+    private static byte[] bytes(int... data) {
+        byte[] bytes = new byte[data.length];
+        for (int i = 0; i < data.length; i++) {
+            bytes[i] = (byte) data[i];
+        }
+        return bytes;
+    }
+
+    private static void assertMalformed(Runnable parse) {
+        TokenVerificationException e = assertThrows(TokenVerificationException.class, parse::run);
+        assertEquals(TokenVerificationException.Reason.MALFORMED, e.getReason());
+    }
+}
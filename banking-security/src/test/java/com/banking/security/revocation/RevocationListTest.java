@@ -0,0 +1,54 @@
+package com.banking.security.revocation;
+
+import com.banking.security.jwt.VerifiedToken;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RevocationListTest {
+
+    private static final long REVOKED_AT = System.currentTimeMillis() / 1000;
+    private static final long EXPIRES_AT = REVOKED_AT + 3600;
+
+    @Test
+    void userRevocationCoversTokensIssuedBeforeItsSecond() {
+        RevocationList list = listWith(new Revocation(1, Revocation.Type.USER, "7", REVOKED_AT, EXPIRES_AT));
+        assertTrue(list.isRevoked(token(7L, REVOKED_AT - 1)));
+    }
+
+    @Test
+    void tokenIssuedInTheRevocationSecondStaysValid() {
+        // A re-login right after logout-all must not be locked out for the token lifetime
+        RevocationList list = listWith(new Revocation(1, Revocation.Type.USER, "7", REVOKED_AT, EXPIRES_AT));
+        assertFalse(list.isRevoked(token(7L, REVOKED_AT)));
+        assertFalse(list.isRevoked(token(7L, REVOKED_AT + 1)));
+    }
+
+    @Test
+    void replayedEntriesMergeWithoutMovingTheCursorBack() {
+        RevocationList list = new RevocationList();
+        Revocation late = new Revocation(4, Revocation.Type.TOKEN, "jti-4", REVOKED_AT, EXPIRES_AT);
+        list.apply(new RevocationDelta(5, List.of(new Revocation(5, Revocation.Type.TOKEN, "jti-5",
+                REVOKED_AT, EXPIRES_AT))));
+        // Id 4 committed after 5 was served; the next delta replays it behind the cursor
+        list.apply(new RevocationDelta(5, List.of(late)));
+        assertEquals(5L, list.cursor());
+        assertEquals(2, list.size());
+        assertTrue(list.isRevoked(new VerifiedToken("HS256", null, Map.of("jti", "jti-4"))));
+    }
+
+    private static RevocationList listWith(Revocation revocation) {
+        RevocationList list = new RevocationList();
+        list.apply(new RevocationDelta(revocation.id(), List.of(revocation)));
+        return list;
+    }
+
+    private static VerifiedToken token(Long userId, long issuedAt) {
+        return new VerifiedToken("HS256", null, Map.of("userId", userId, "iat", issuedAt));
+    }
+}
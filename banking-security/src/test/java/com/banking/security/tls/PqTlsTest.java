@@ -0,0 +1,126 @@
+package com.banking.security.tls;
+
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.TrustManagerFactory;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.cert.X509Certificate;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Handshake smoke test: with only the hybrid group enabled on both ends, a
+ * completed TLS 1.3 handshake means X25519MLKEM768 was negotiated.
+ */
+class PqTlsTest {
+
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    @BeforeAll
+    static void installProviders() {
+        PqTls.installProviders("X25519MLKEM768");
+    }
+
+    @Test
+    void hybridKeyExchangeHandshakeCompletes() throws Exception {
+        SSLContext context = selfSignedContext();
+        assertEquals("BCJSSE", context.getProvider().getName());
+
+        SSLEngine server = context.createSSLEngine();
+        server.setUseClientMode(false);
+        SSLEngine client = context.createSSLEngine("localhost", 8443);
+        client.setUseClientMode(true);
+
+        handshake(client, server);
+
+        assertEquals("TLSv1.3", client.getSession().getProtocol());
+        assertEquals("TLSv1.3", server.getSession().getProtocol());
+    }
+
+    private static SSLContext selfSignedContext() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(256);
+        KeyPair keyPair = generator.generateKeyPair();
+        X500Name name = new X500Name("CN=localhost");
+        long now = System.currentTimeMillis();
+        X509Certificate certificate = new JcaX509CertificateConverter().getCertificate(
+                new JcaX509v3CertificateBuilder(name, BigInteger.ONE, new Date(now - 60_000),
+                        new Date(now + 3_600_000), name, keyPair.getPublic())
+                        .build(new JcaContentSignerBuilder("SHA256withECDSA").build(keyPair.getPrivate())));
+
+        char[] password = "changeit".toCharArray();
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(null, null);
+        keyStore.setKeyEntry("server", keyPair.getPrivate(), password, new X509Certificate[] {certificate});
+        KeyManagerFactory keyManagers = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagers.init(keyStore, password);
+
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+        trustStore.load(null, null);
+        trustStore.setCertificateEntry("server", certificate);
+        TrustManagerFactory trustManagers = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        trustManagers.init(trustStore);
+
+        SSLContext context = SSLContext.getInstance("TLSv1.3");
+        context.init(keyManagers.getKeyManagers(), trustManagers.getTrustManagers(), null);
+        return context;
+    }
+
+    /** Runs both engines against each other in memory until neither is handshaking. */
+    private static void handshake(SSLEngine client, SSLEngine server) throws SSLException {
+        int packetSize = Math.max(client.getSession().getPacketBufferSize(),
+                server.getSession().getPacketBufferSize());
+        ByteBuffer clientToServer = ByteBuffer.allocate(packetSize);
+        ByteBuffer serverToClient = ByteBuffer.allocate(packetSize);
+        ByteBuffer clientIn = ByteBuffer.allocate(client.getSession().getApplicationBufferSize());
+        ByteBuffer serverIn = ByteBuffer.allocate(server.getSession().getApplicationBufferSize());
+        client.beginHandshake();
+        server.beginHandshake();
+        for (int i = 0; i < 1000 && !(finished(client) && finished(server)); i++) {
+            step(client, serverToClient, clientToServer, clientIn);
+            step(server, clientToServer, serverToClient, serverIn);
+        }
+        assertTrue(finished(client) && finished(server), "handshake did not complete");
+    }
+
+    private static void step(SSLEngine engine, ByteBuffer in, ByteBuffer out, ByteBuffer app) throws SSLException {
+        switch (engine.getHandshakeStatus()) {
+            case NEED_WRAP -> engine.wrap(EMPTY, out);
+            case NEED_UNWRAP, NEED_UNWRAP_AGAIN -> {
+                in.flip();
+                engine.unwrap(in, app);
+                in.compact();
+            }
+            case NEED_TASK -> {
+                Runnable task;
+                while ((task = engine.getDelegatedTask()) != null) {
+                    task.run();
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private static boolean finished(SSLEngine engine) {
+        SSLEngineResult.HandshakeStatus status = engine.getHandshakeStatus();
+        return status == SSLEngineResult.HandshakeStatus.NOT_HANDSHAKING
+                || status == SSLEngineResult.HandshakeStatus.FINISHED;
+    }
+}
@@ -0,0 +1,112 @@
+package com.banking.benchmarks;
+
+import com.banking.security.jwt.HmacJwtVerifier;
+import com.banking.security.jwt.JwtVerifier;
+import com.banking.security.jwt.KeyIds;
+import com.banking.security.jwt.MlDsaJwtSigner;
+import com.banking.security.jwt.MlDsaJwtVerifier;
+import com.banking.security.jwt.VerifiedToken;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Security;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and validation cost per algorithm, mirroring what auth-service
+ * does on login ({@code JwtTokenProvider} / {@code PQJwtTokenProvider}
+ * generateToken) and what every service does per request (validateToken via
+ * the shared verifiers, without the verified-token cache).
+ *
+ * Reports throughput and sampled latency percentiles; see {@link SizingRunner}
+ * for a run that also attaches the GC profiler (bytes allocated per op).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtIssueValidateBenchmark {
+
+    private static final String SECRET = "5367566B59703373367639792F423F4528482B4D6251655468576D5A71347437";
+    private static final long EXPIRATION_MS = 86_400_000L;
+
+    @Param({ "HS256", "ML-DSA-44", "ML-DSA-65", "ML-DSA-87" })
+    public String algorithm;
+
+    private HmacJwtVerifier hmacVerifier;
+    private MlDsaJwtSigner mlDsaSigner;
+    private KeyPair mlDsaKeyPair;
+    private String mlDsaKeyId;
+    private JwtVerifier verifier;
+    private String token;
+
+    @Setup
+    public void setup() throws Exception {
+        if (Security.getProvider("BC") == null) {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+        hmacVerifier = new HmacJwtVerifier(SECRET);
+        if (HmacJwtVerifier.ALGORITHM.equals(algorithm)) {
+            verifier = new JwtVerifier(hmacVerifier);
+        } else {
+            mlDsaKeyPair = KeyPairGenerator.getInstance(algorithm, "BC").generateKeyPair();
+            mlDsaKeyId = KeyIds.thumbprint(mlDsaKeyPair.getPublic());
+            mlDsaSigner = new MlDsaJwtSigner(algorithm, "BC");
+            verifier = new JwtVerifier(new MlDsaJwtVerifier(algorithm, "BC", kid -> mlDsaKeyPair.getPublic()));
+        }
+        token = generateToken();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + EXPIRATION_MS);
+
+        if (mlDsaSigner == null) {
+            Map<String, Object> claims = new HashMap<>();
+            claims.put("userId", 42L);
+            claims.put("username", "bench-user");
+            claims.put("role", "USER");
+            return Jwts.builder()
+                    .setClaims(claims)
+                    .setSubject("bench-user")
+                    .setIssuedAt(now)
+                    .setExpiration(expiryDate)
+                    .signWith(hmacVerifier.key(), SignatureAlgorithm.HS256)
+                    .compact();
+        }
+
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("sub", "bench-user");
+        payload.put("iat", now.getTime() / 1000);
+        payload.put("exp", expiryDate.getTime() / 1000);
+        payload.put("userId", 42L);
+        payload.put("role", "USER");
+        payload.put("pq", true);
+        return mlDsaSigner.sign(payload, mlDsaKeyPair.getPrivate(), mlDsaKeyId);
+    }
+
+    @Benchmark
+    public VerifiedToken validateToken() {
+        return verifier.verify(token);
+    }
+}
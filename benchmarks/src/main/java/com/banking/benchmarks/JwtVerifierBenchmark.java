@@ -0,0 +1,105 @@
+package com.banking.benchmarks;
+
+import com.banking.security.jwt.HmacJwtVerifier;
+import com.banking.security.jwt.JwtVerifier;
+import com.banking.security.jwt.MlDsaCwtSigner;
+import com.banking.security.jwt.MlDsaJwtSigner;
+import com.banking.security.jwt.MlDsaJwtVerifier;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Security;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request token verification cost: the old per-call HS256 path (key and
+ * parser rebuilt every time) against the shared verifier's prebuilt parser,
+ * plus ML-DSA-65 through the same alg dispatch, as a compact JWT and as a CWT.
+ *
+ * Run with: java -jar target/benchmarks.jar JwtVerifierBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerifierBenchmark {
+
+    private static final String SECRET = "5367566B59703373367639792F423F4528482B4D6251655468576D5A71347437";
+
+    private JwtVerifier verifier;
+    private String hs256Token;
+    private String mlDsaToken;
+    private String mlDsaCwt;
+
+    @Setup
+    public void setup() throws Exception {
+        if (Security.getProvider("BC") == null) {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("sub", "bench-user");
+        claims.put("userId", 42L);
+        claims.put("role", "CUSTOMER");
+        claims.put("exp", System.currentTimeMillis() / 1000 + 3600);
+
+        hs256Token = Jwts.builder()
+                .setClaims(claims)
+                .setExpiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+
+        KeyPair dsa = KeyPairGenerator.getInstance("ML-DSA-65", "BC").generateKeyPair();
+        mlDsaToken = new MlDsaJwtSigner("ML-DSA-65", "BC").sign(claims, dsa.getPrivate(), null);
+        mlDsaCwt = new MlDsaCwtSigner("ML-DSA-65", "BC").sign(claims, dsa.getPrivate(), null);
+
+        verifier = new JwtVerifier(
+                new HmacJwtVerifier(SECRET),
+                new MlDsaJwtVerifier("ML-DSA-65", "BC", kid -> dsa.getPublic()));
+    }
+
+    /** What each service's JwtTokenProvider did before: new key and parser per call. */
+    @Benchmark
+    public Claims hs256RebuiltPerCall() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(hs256Token)
+                .getBody();
+    }
+
+    @Benchmark
+    public Object hs256SharedVerifier() {
+        return verifier.verify(hs256Token);
+    }
+
+    @Benchmark
+    public Object mlDsa65SharedVerifier() {
+        return verifier.verify(mlDsaToken);
+    }
+
+    @Benchmark
+    public Object mlDsa65CwtSharedVerifier() {
+        return verifier.verify(mlDsaCwt);
+    }
+}
@@ -0,0 +1,62 @@
+package com.banking.benchmarks;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Security;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ML-KEM-768 encapsulation and decapsulation through the Cipher wrap/unwrap
+ * API, as CryptoController's /encapsulate does it (a fresh Cipher per call).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MlKemBenchmark {
+
+    private static final String ALGORITHM = "ML-KEM-768";
+
+    private KeyPair keyPair;
+    private byte[] ciphertext;
+
+    @Setup
+    public void setup() throws Exception {
+        if (Security.getProvider("BC") == null) {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+        keyPair = KeyPairGenerator.getInstance(ALGORITHM, "BC").generateKeyPair();
+        ciphertext = encapsulate();
+    }
+
+    @Benchmark
+    public byte[] encapsulate() throws Exception {
+        Cipher kemCipher = Cipher.getInstance(ALGORITHM, "BC");
+        kemCipher.init(Cipher.WRAP_MODE, keyPair.getPublic());
+        return kemCipher.wrap(new SecretKeySpec(new byte[32], 0, 32, "RAW"));
+    }
+
+    @Benchmark
+    public Key decapsulate() throws Exception {
+        Cipher kemCipher = Cipher.getInstance(ALGORITHM, "BC");
+        kemCipher.init(Cipher.UNWRAP_MODE, keyPair.getPrivate());
+        return kemCipher.unwrap(ciphertext, "AES", Cipher.SECRET_KEY);
+    }
+}
@@ -0,0 +1,86 @@
+package com.banking.benchmarks;
+
+import com.banking.security.crypto.ThreadLocalSignatures;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Security;
+import java.security.Signature;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ML-DSA-65 sign/verify with a fresh {@code Signature.getInstance} + init per
+ * call (the old PQJwtTokenProvider path) against {@link ThreadLocalSignatures},
+ * at 200 concurrent threads to match a busy Tomcat worker pool.
+ *
+ * Run with: java -jar target/benchmarks.jar SignatureReuseBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(200)
+@Fork(1)
+public class SignatureReuseBenchmark {
+
+    private static final String ALGORITHM = "ML-DSA-65";
+
+    private KeyPair keyPair;
+    private byte[] message;
+    private byte[] signature;
+    private ThreadLocalSignatures signatures;
+
+    @Setup
+    public void setup() throws Exception {
+        if (Security.getProvider("BC") == null) {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+        keyPair = KeyPairGenerator.getInstance(ALGORITHM, "BC").generateKeyPair();
+        // Roughly the size of a JWT header.payload signing input
+        message = ("eyJhbGciOiJNTC1EU0EtNjUiLCJ0eXAiOiJKV1QifQ."
+                + "eyJzdWIiOiJiZW5jaC11c2VyIiwidXNlcklkIjo0Miwicm9sZSI6IkNVU1RPTUVSIn0")
+                .getBytes(StandardCharsets.US_ASCII);
+        signatures = new ThreadLocalSignatures(ALGORITHM, "BC");
+        signature = signatures.sign(keyPair.getPrivate(), message);
+    }
+
+    @Benchmark
+    public boolean verifyNewInstancePerCall() throws Exception {
+        Signature verifier = Signature.getInstance(ALGORITHM, "BC");
+        verifier.initVerify(keyPair.getPublic());
+        verifier.update(message);
+        return verifier.verify(signature);
+    }
+
+    @Benchmark
+    public boolean verifyThreadLocal() throws Exception {
+        return signatures.verify(keyPair.getPublic(), message, signature);
+    }
+
+    @Benchmark
+    public byte[] signNewInstancePerCall() throws Exception {
+        Signature signer = Signature.getInstance(ALGORITHM, "BC");
+        signer.initSign(keyPair.getPrivate());
+        signer.update(message);
+        return signer.sign();
+    }
+
+    @Benchmark
+    public byte[] signThreadLocal() throws Exception {
+        return signatures.sign(keyPair.getPrivate(), message);
+    }
+}
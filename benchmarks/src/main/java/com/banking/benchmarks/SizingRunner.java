@@ -0,0 +1,32 @@
+package com.banking.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Capacity-sizing run for auth-service login peaks: token issue/validate for
+ * HS256 and ML-DSA-44/65/87 plus ML-KEM-768, reporting ops/s, latency
+ * percentiles (p50/p90/p99/p99.9 from SampleTime) and
+ * {@code gc.alloc.rate.norm} (bytes allocated per op) from the GC profiler.
+ *
+ * Run with: java -cp target/benchmarks.jar com.banking.benchmarks.SizingRunner [results.json]
+ */
+public final class SizingRunner {
+
+    private SizingRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        ChainedOptionsBuilder builder = new OptionsBuilder()
+                .include(JwtIssueValidateBenchmark.class.getSimpleName())
+                .include(MlKemBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class);
+        if (args.length > 0) {
+            builder.resultFormat(ResultFormatType.JSON).result(args[0]);
+        }
+        new Runner(builder.build()).run();
+    }
+}
@@ -0,0 +1,173 @@
+package com.banking.benchmarks;
+
+import com.banking.security.tls.PqTls;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.TrustManagerFactory;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory TLS 1.3 handshakes on BouncyCastle JSSE (client and server
+ * SSLEngines, no sockets), as the embedded servers run with
+ * tls.server.pq.enabled: classic x25519 against hybrid X25519MLKEM768, each
+ * as a full handshake and as a resumption from the client session cache.
+ * The server certificate is ECDSA P-256, so the difference is the key
+ * exchange alone.
+ *
+ * Each group runs in its own fork because the group list is process-wide.
+ *
+ * Run with: java -jar target/benchmarks.jar TlsHandshakeBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TlsHandshakeBenchmark {
+
+    private static final String PEER_HOST = "localhost";
+    private static final int PEER_PORT = 8443;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char[] PASSWORD = "changeit".toCharArray();
+
+    @Param({ "x25519", "X25519MLKEM768" })
+    public String group;
+
+    @Param({ "false", "true" })
+    public boolean resume;
+
+    private SSLContext serverContext;
+    private SSLContext clientContext;
+
+    @Setup
+    public void setup() throws Exception {
+        PqTls.installProviders(group);
+
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC", "BC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+        X509Certificate certificate = selfSigned(keyPair);
+
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(null, null);
+        keyStore.setKeyEntry("server", keyPair.getPrivate(), PASSWORD, new Certificate[] { certificate });
+        KeyManagerFactory keyManagers = KeyManagerFactory.getInstance("PKIX", "BCJSSE");
+        keyManagers.init(keyStore, PASSWORD);
+        serverContext = SSLContext.getInstance("TLSv1.3", "BCJSSE");
+        serverContext.init(keyManagers.getKeyManagers(), null, null);
+
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+        trustStore.load(null, null);
+        trustStore.setCertificateEntry("server", certificate);
+        TrustManagerFactory trustManagers = TrustManagerFactory.getInstance("PKIX", "BCJSSE");
+        trustManagers.init(trustStore);
+        clientContext = SSLContext.getInstance("TLSv1.3", "BCJSSE");
+        clientContext.init(null, trustManagers.getTrustManagers(), null);
+
+        if (resume) {
+            // Populate the client session cache for PEER_HOST:PEER_PORT
+            handshake();
+        }
+    }
+
+    @Benchmark
+    public SSLEngine handshake() throws SSLException {
+        // Engines without peer host/port never look up a cached session
+        SSLEngine client = resume
+                ? clientContext.createSSLEngine(PEER_HOST, PEER_PORT)
+                : clientContext.createSSLEngine();
+        client.setUseClientMode(true);
+        SSLEngine server = serverContext.createSSLEngine();
+        server.setUseClientMode(false);
+
+        ByteBuffer clientToServer = ByteBuffer.allocate(BUFFER_SIZE);
+        ByteBuffer serverToClient = ByteBuffer.allocate(BUFFER_SIZE);
+        ByteBuffer clientApp = ByteBuffer.allocate(BUFFER_SIZE);
+        ByteBuffer serverApp = ByteBuffer.allocate(BUFFER_SIZE);
+
+        client.beginHandshake();
+        server.beginHandshake();
+        for (int steps = 0; isHandshaking(client) || isHandshaking(server); steps++) {
+            if (steps > 100) {
+                throw new SSLException("Handshake did not complete");
+            }
+            step(client, clientToServer, serverToClient, clientApp);
+            step(server, serverToClient, clientToServer, serverApp);
+        }
+        // TLS 1.3 session tickets arrive after the handshake; the client needs them to resume
+        serverToClient.flip();
+        while (serverToClient.hasRemaining()) {
+            if (client.unwrap(serverToClient, clientApp).getStatus() != SSLEngineResult.Status.OK) {
+                break;
+            }
+        }
+        return client;
+    }
+
+    private static boolean isHandshaking(SSLEngine engine) {
+        SSLEngineResult.HandshakeStatus status = engine.getHandshakeStatus();
+        return status != SSLEngineResult.HandshakeStatus.NOT_HANDSHAKING
+                && status != SSLEngineResult.HandshakeStatus.FINISHED;
+    }
+
+    private static void step(SSLEngine engine, ByteBuffer out, ByteBuffer in, ByteBuffer app) throws SSLException {
+        switch (engine.getHandshakeStatus()) {
+            case NEED_WRAP -> engine.wrap(ByteBuffer.allocate(0), out);
+            case NEED_UNWRAP -> {
+                in.flip();
+                engine.unwrap(in, app);
+                in.compact();
+            }
+            case NEED_TASK -> {
+                Runnable task;
+                while ((task = engine.getDelegatedTask()) != null) {
+                    task.run();
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private static X509Certificate selfSigned(KeyPair keyPair) throws Exception {
+        X500Name subject = new X500Name("CN=" + PEER_HOST);
+        Instant now = Instant.now();
+        JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(subject,
+                BigInteger.valueOf(now.toEpochMilli()), Date.from(now), Date.from(now.plus(Duration.ofDays(1))),
+                subject, keyPair.getPublic());
+        return new JcaX509CertificateConverter().setProvider("BC").getCertificate(
+                builder.build(new JcaContentSignerBuilder("SHA256withECDSA").setProvider("BC")
+                        .build(keyPair.getPrivate())));
+    }
+}
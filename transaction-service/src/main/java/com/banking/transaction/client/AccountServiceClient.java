@@ -3,13 +3,14 @@ package com.banking.transaction.client;
 import com.banking.transaction.dto.CreditRequestDTO;
 import com.banking.transaction.dto.DebitRequestDTO;
 import com.banking.transaction.dto.AccountDetailsDTO;
+import com.banking.transaction.client.routing.AccountServiceRoutingConfig;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
-@FeignClient(name = "account-service", url = "${account-service.url}")
+@FeignClient(name = "account-service", url = "${account-service.url}", configuration = AccountServiceRoutingConfig.class)
 public interface AccountServiceClient {
 
     @PutMapping("/api/accounts/{accountNumber}/debit")
@@ -0,0 +1,46 @@
+package com.banking.transaction.client.routing;
+
+import com.banking.security.routing.RendezvousHash;
+import feign.Capability;
+import feign.Client;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Feign configuration for {@code AccountServiceClient} only (deliberately not
+ * a {@code @Configuration}, so component scanning does not apply it to other
+ * clients). Wraps whichever {@link Client} is in use, plain or TLS, with
+ * sticky per-account routing when {@code account-service.instances} lists
+ * more than one node.
+ */
+public class AccountServiceRoutingConfig {
+
+    @Bean
+    public Capability accountRoutingCapability(
+            @Value("${account-service.url}") String defaultUrl,
+            @Value("${account-service.instances:}") String instances,
+            @Value("${account-service.routing.cooldown-ms:10000}") long cooldownMillis) {
+        List<String> nodes = Arrays.stream(instances.split(","))
+                .map(String::trim)
+                .filter(node -> !node.isEmpty())
+                .map(AccountServiceRoutingConfig::normalize)
+                .toList();
+        if (nodes.isEmpty()) {
+            nodes = List.of(normalize(defaultUrl));
+        }
+        RendezvousHash ring = new RendezvousHash(nodes);
+        return new Capability() {
+            @Override
+            public Client enrich(Client client) {
+                return ring.nodes().size() > 1 ? new StickyAccountRoutingClient(client, ring, cooldownMillis) : client;
+            }
+        };
+    }
+
+    static String normalize(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
@@ -0,0 +1,94 @@
+package com.banking.transaction.client.routing;
+
+import com.banking.security.routing.RendezvousHash;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Feign {@link Client} decorator that sends every account-scoped request to
+ * the account-service instance owning that account number, so per-node
+ * caches and in-memory state (velocity counters, holds) see all traffic for
+ * an account.
+ *
+ * The account number is taken from the {@code /api/accounts/{n}/...} path and
+ * hashed with {@link RendezvousHash}. If the owner refuses the connection it
+ * is put on a short cool-down and the next node in the ranking is tried.
+ * Only failures before the request was sent fail over; a read timeout could
+ * mean a debit was applied, so it is surfaced to the caller instead.
+ */
+@Slf4j
+public class StickyAccountRoutingClient implements Client {
+
+    private static final String ACCOUNT_PATH = "/api/accounts/";
+
+    private final Client delegate;
+    private final RendezvousHash ring;
+    private final long cooldownMillis;
+    private final Map<String, Long> downUntil = new ConcurrentHashMap<>();
+
+    public StickyAccountRoutingClient(Client delegate, RendezvousHash ring, long cooldownMillis) {
+        this.delegate = delegate;
+        this.ring = ring;
+        this.cooldownMillis = cooldownMillis;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        URI uri = URI.create(request.url());
+        String accountNumber = accountNumberOf(uri.getRawPath());
+        List<String> candidates = accountNumber != null ? ring.ranked(accountNumber) : ring.nodes();
+
+        long now = System.currentTimeMillis();
+        IOException lastFailure = null;
+        // First pass skips nodes on cool-down; if all are down, try them anyway.
+        for (int pass = 0; pass < 2; pass++) {
+            boolean firstPass = pass == 0;
+            for (String node : candidates) {
+                boolean coolingDown = downUntil.getOrDefault(node, 0L) > now;
+                if (coolingDown == firstPass) {
+                    continue;
+                }
+                try {
+                    Response response = delegate.execute(rebase(request, uri, node), options);
+                    downUntil.remove(node);
+                    return response;
+                } catch (ConnectException | NoRouteToHostException | UnknownHostException e) {
+                    log.warn("account-service node {} unreachable ({}), failing over", node, e.getMessage());
+                    downUntil.put(node, System.currentTimeMillis() + cooldownMillis);
+                    lastFailure = e;
+                }
+            }
+        }
+        throw lastFailure != null ? lastFailure : new ConnectException("No account-service instances configured");
+    }
+
+    static String accountNumberOf(String path) {
+        if (path == null || !path.startsWith(ACCOUNT_PATH)) {
+            return null;
+        }
+        String rest = path.substring(ACCOUNT_PATH.length());
+        int slash = rest.indexOf('/');
+        String segment = slash < 0 ? rest : rest.substring(0, slash);
+        return segment.isEmpty() ? null : segment;
+    }
+
+    private static Request rebase(Request request, URI original, String node) {
+        StringBuilder url = new StringBuilder(node).append(original.getRawPath());
+        if (original.getRawQuery() != null) {
+            url.append('?').append(original.getRawQuery());
+        }
+        return Request.create(request.httpMethod(), url.toString(), request.headers(), request.body(),
+                request.charset(), request.requestTemplate());
+    }
+}
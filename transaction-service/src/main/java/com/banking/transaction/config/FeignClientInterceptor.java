@@ -1,20 +1,56 @@
 package com.banking.transaction.config;
 
+import com.banking.security.internal.InternalTokens;
+import com.banking.transaction.security.AuthenticatedUser;
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+/**
+ * Authenticates outbound Feign calls as the current user. With
+ * internal-token.enabled (the default) each call gets a fresh internal token
+ * for the target service ({@code Authorization: Internal ...}), minted from
+ * the already verified principal, so the callee checks one HMAC instead of
+ * re-verifying the user's token. This also covers users who authenticated
+ * with a PQ session, whose credentials cannot be forwarded. Otherwise the
+ * caller's bearer token is forwarded as before.
+ */
 @Component
 public class FeignClientInterceptor implements RequestInterceptor {
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_TOKEN_TYPE = "Bearer";
+    private static final String INTERNAL_TOKEN_TYPE = "Internal ";
+
+    private final InternalTokens internalTokens;
+    private final boolean internalTokensEnabled;
+    private final String serviceName;
+
+    public FeignClientInterceptor(InternalTokens internalTokens,
+            @Value("${internal-token.enabled:true}") boolean internalTokensEnabled,
+            @Value("${spring.application.name}") String serviceName) {
+        this.internalTokens = internalTokens;
+        this.internalTokensEnabled = internalTokensEnabled;
+        this.serviceName = serviceName;
+    }
 
     @Override
     public void apply(RequestTemplate template) {
+        if (internalTokensEnabled) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+                template.header(AUTHORIZATION_HEADER, INTERNAL_TOKEN_TYPE + internalTokens.mint(serviceName,
+                        template.feignTarget().name(), user.username(), user.userId(), user.role()));
+                return;
+            }
+        }
+
         // Get the current HTTP request
         ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
         if (attributes != null) {
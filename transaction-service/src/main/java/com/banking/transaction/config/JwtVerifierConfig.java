@@ -0,0 +1,89 @@
+package com.banking.transaction.config;
+
+import com.banking.security.internal.InternalTokens;
+import com.banking.security.jwt.AlgorithmJwtVerifier;
+import com.banking.security.jwt.CachingTokenVerifier;
+import com.banking.security.jwt.HmacJwtVerifier;
+import com.banking.security.jwt.JwtVerifier;
+import com.banking.security.jwt.MlDsaJwtVerifier;
+import com.banking.security.jwt.TokenRejections;
+import com.banking.security.jwt.TokenVerifier;
+import com.banking.security.revocation.RevocationList;
+import com.banking.security.session.SessionRequestVerifier;
+import com.banking.security.session.SessionTickets;
+import com.banking.transaction.security.PQJwtTokenProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Token verification for incoming requests: HS256 always, the ML-DSA
+ * parameter sets in jwt.pq.accepted-algorithms when jwt.use-post-quantum is
+ * set, dispatched on the alg header and fronted by the verified-token cache
+ * and a short-lived cache of rejected tokens.
+ */
+@Configuration
+public class JwtVerifierConfig {
+
+    @Bean
+    public TokenVerifier tokenVerifier(@Value("${jwt.secret}") String jwtSecret,
+            @Value("${jwt.use-post-quantum:false}") boolean usePostQuantum,
+            @Value("${jwt.pq.cache.max-size:10000}") long cacheMaxSize,
+            @Value("${jwt.pq.cache.max-ttl-seconds:86400}") long cacheMaxTtlSeconds,
+            @Value("${jwt.pq.cache.negative-max-size:10000}") long negativeCacheMaxSize,
+            @Value("${jwt.pq.cache.negative-ttl-seconds:60}") long negativeCacheTtlSeconds,
+            PQJwtTokenProvider authServiceKeys) {
+        List<AlgorithmJwtVerifier> verifiers = new ArrayList<>();
+        verifiers.add(new HmacJwtVerifier(jwtSecret));
+        if (usePostQuantum) {
+            for (String algorithm : authServiceKeys.acceptedAlgorithms()) {
+                verifiers.add(new MlDsaJwtVerifier(algorithm, "BC", authServiceKeys.resolverFor(algorithm)));
+            }
+        }
+        JwtVerifier dispatcher = new JwtVerifier(verifiers.toArray(new AlgorithmJwtVerifier[0]));
+        return new CachingTokenVerifier(dispatcher, cacheMaxSize, cacheMaxTtlSeconds,
+                negativeCacheMaxSize, negativeCacheTtlSeconds);
+    }
+
+    /**
+     * Rejected tokens by reason, exported as jwt.rejections{reason}.
+     */
+    @Bean
+    public TokenRejections tokenRejections(MeterRegistry meterRegistry,
+            @Value("${jwt.rejections.log-interval-ms:10000}") long logIntervalMs) {
+        return new TokenRejections(logIntervalMs).bindTo(meterRegistry);
+    }
+
+    /**
+     * Mints the per-call credentials FeignClientInterceptor sends to
+     * account-service; keyed from the shared jwt.secret.
+     */
+    @Bean
+    public InternalTokens internalTokens(@Value("${jwt.secret}") String jwtSecret,
+            @Value("${internal-token.ttl-seconds:30}") long ttlSeconds) {
+        return new InternalTokens(jwtSecret, ttlSeconds);
+    }
+
+    /**
+     * Tokens revoked at auth-service, kept current by RevocationSync.
+     */
+    @Bean
+    public RevocationList revocationList() {
+        return new RevocationList();
+    }
+
+    /**
+     * HMAC authentication for requests under a PQ session opened at
+     * auth-service; session ids are opened with the shared jwt.secret.
+     */
+    @Bean
+    public SessionRequestVerifier sessionRequestVerifier(@Value("${jwt.secret}") String jwtSecret,
+            @Value("${jwt.session.cache.max-size:10000}") long cacheMaxSize,
+            @Value("${jwt.session.max-clock-skew-seconds:30}") long maxClockSkewSeconds) {
+        return new SessionRequestVerifier(new SessionTickets(jwtSecret), cacheMaxSize, maxClockSkewSeconds);
+    }
+}
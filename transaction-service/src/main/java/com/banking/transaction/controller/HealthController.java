@@ -6,13 +6,12 @@ import com.banking.transaction.dto.BeneficiaryRequestDTO;
 import com.banking.transaction.dto.TransferRequestDTO;
 import com.banking.transaction.entity.Transaction;
 import com.banking.transaction.service.TransactionService;
-import com.banking.transaction.security.JwtTokenProvider;
+import com.banking.transaction.security.AuthenticatedUser;
 import org.springframework.http.ResponseEntity;
 import org.springframework.format.annotation.DateTimeFormat;
-import org.springframework.util.StringUtils;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -23,11 +22,9 @@ import java.util.Map;
 public class HealthController {
 
     private final TransactionService transactionService;
-    private final JwtTokenProvider jwtTokenProvider;
 
-    public HealthController(TransactionService transactionService, JwtTokenProvider jwtTokenProvider) {
+    public HealthController(TransactionService transactionService) {
         this.transactionService = transactionService;
-        this.jwtTokenProvider = jwtTokenProvider;
     }
 
     @GetMapping("/")
@@ -57,16 +54,14 @@ public class HealthController {
     @PostMapping("/api/transactions/transfer")
     public ResponseEntity<String> transferFunds(
             @Valid @RequestBody TransferRequestDTO transferRequest,
-            HttpServletRequest request) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
 
-        // Extract JWT token from request header
-        String token = getJwtFromRequest(request);
-        if (token == null) {
+        // The principal is set by JwtAuthenticationFilter from the verified token
+        if (user == null) {
             return ResponseEntity.status(401).body("Missing or invalid authentication token");
         }
 
-        // Extract userId from token
-        Long userId = jwtTokenProvider.getUserIdFromToken(token);
+        Long userId = user.userId();
         if (userId == null) {
             return ResponseEntity.status(401).body("Invalid token: userId not found");
         }
@@ -76,27 +71,18 @@ public class HealthController {
         return ResponseEntity.ok(result);
     }
 
-    private String getJwtFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring("Bearer ".length());
-        }
-        return null;
+    private static Long userIdOf(AuthenticatedUser user) {
+        return user != null ? user.userId() : null;
     }
 
     @GetMapping("/api/transactions/account/{accountNumber}")
     public ResponseEntity<List<Transaction>> getTransactionHistory(
             @PathVariable String accountNumber,
-            HttpServletRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fromDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime toDate) {
-        String token = getJwtFromRequest(request);
-        if (token == null) {
-            return ResponseEntity.status(401).build();
-        }
-
-        Long userId = jwtTokenProvider.getUserIdFromToken(token);
+        Long userId = userIdOf(user);
         if (userId == null) {
             return ResponseEntity.status(401).build();
         }
@@ -113,13 +99,8 @@ public class HealthController {
     @GetMapping("/api/transactions/account/{accountNumber}/insights")
     public ResponseEntity<AccountInsightsDTO> getAccountInsights(
             @PathVariable String accountNumber,
-            HttpServletRequest request) {
-        String token = getJwtFromRequest(request);
-        if (token == null) {
-            return ResponseEntity.status(401).build();
-        }
-
-        Long userId = jwtTokenProvider.getUserIdFromToken(token);
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        Long userId = userIdOf(user);
         if (userId == null) {
             return ResponseEntity.status(401).build();
         }
@@ -128,12 +109,8 @@ public class HealthController {
     }
 
     @GetMapping("/api/transactions/beneficiaries")
-    public ResponseEntity<List<BeneficiaryDTO>> getBeneficiaries(HttpServletRequest request) {
-        String token = getJwtFromRequest(request);
-        if (token == null) {
-            return ResponseEntity.status(401).build();
-        }
-        Long userId = jwtTokenProvider.getUserIdFromToken(token);
+    public ResponseEntity<List<BeneficiaryDTO>> getBeneficiaries(@AuthenticationPrincipal AuthenticatedUser user) {
+        Long userId = userIdOf(user);
         if (userId == null) {
             return ResponseEntity.status(401).build();
         }
@@ -143,12 +120,8 @@ public class HealthController {
     @PostMapping("/api/transactions/beneficiaries")
     public ResponseEntity<BeneficiaryDTO> addBeneficiary(
             @Valid @RequestBody BeneficiaryRequestDTO request,
-            HttpServletRequest httpRequest) {
-        String token = getJwtFromRequest(httpRequest);
-        if (token == null) {
-            return ResponseEntity.status(401).build();
-        }
-        Long userId = jwtTokenProvider.getUserIdFromToken(token);
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        Long userId = userIdOf(user);
         if (userId == null) {
             return ResponseEntity.status(401).build();
         }
@@ -160,12 +133,8 @@ public class HealthController {
     @DeleteMapping("/api/transactions/beneficiaries/{beneficiaryId}")
     public ResponseEntity<Void> deleteBeneficiary(
             @PathVariable Long beneficiaryId,
-            HttpServletRequest request) {
-        String token = getJwtFromRequest(request);
-        if (token == null) {
-            return ResponseEntity.status(401).build();
-        }
-        Long userId = jwtTokenProvider.getUserIdFromToken(token);
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        Long userId = userIdOf(user);
         if (userId == null) {
             return ResponseEntity.status(401).build();
         }
@@ -178,12 +147,8 @@ public class HealthController {
     public ResponseEntity<BeneficiaryDTO> setBeneficiaryFavorite(
             @PathVariable Long beneficiaryId,
             @RequestParam boolean favorite,
-            HttpServletRequest request) {
-        String token = getJwtFromRequest(request);
-        if (token == null) {
-            return ResponseEntity.status(401).build();
-        }
-        Long userId = jwtTokenProvider.getUserIdFromToken(token);
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        Long userId = userIdOf(user);
         if (userId == null) {
             return ResponseEntity.status(401).build();
         }
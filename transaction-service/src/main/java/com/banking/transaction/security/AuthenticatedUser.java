@@ -0,0 +1,29 @@
+package com.banking.transaction.security;
+
+import com.banking.security.jwt.VerifiedToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * Principal built once per request by {@link JwtAuthenticationFilter} from the
+ * verified token claims. Controllers take it via {@code @AuthenticationPrincipal}
+ * instead of re-parsing the Authorization header.
+ */
+public record AuthenticatedUser(Long userId, String username, String role) implements Principal {
+
+    static AuthenticatedUser from(VerifiedToken token) {
+        return new AuthenticatedUser(token.userId(), token.subject(), token.role());
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    public List<GrantedAuthority> authorities() {
+        return role == null ? List.of() : List.of(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+}
@@ -1,12 +1,17 @@
 package com.banking.transaction.security;
 
+import com.banking.security.jwt.TokenRejections;
+import com.banking.security.jwt.TokenVerificationException;
+import com.banking.security.jwt.TokenVerifier;
+import com.banking.security.jwt.VerifiedToken;
+import com.banking.security.revocation.RevocationList;
+import com.banking.security.session.SessionRequestVerifier;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -15,61 +20,67 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.ArrayList;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String SESSION_SCHEME = "Session ";
+    private static final String SESSION_TIMESTAMP_HEADER = "X-Session-Timestamp";
+    private static final String SESSION_SIGNATURE_HEADER = "X-Session-Signature";
+
+    @Autowired
+    private TokenVerifier tokenVerifier;
+
     @Autowired
-    private JwtTokenProvider standardTokenProvider;
+    private SessionRequestVerifier sessionRequestVerifier;
 
     @Autowired
-    private PQJwtTokenProvider pqTokenProvider;
+    private RevocationList revocationList;
 
-    @Value("${jwt.use-post-quantum:false}")
-    private boolean usePostQuantum;
+    @Autowired
+    private TokenRejections tokenRejections;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         try {
             String jwt = getJwtFromRequest(request);
+            String sessionId = getSessionIdFromRequest(request);
 
-            if (StringUtils.hasText(jwt)) {
-                String username = null;
-                boolean isValid = false;
-
-                // Try PQ validation first if enabled
-                if (usePostQuantum) {
-                    try {
-                        isValid = pqTokenProvider.validateToken(jwt);
-                        if (isValid) {
-                            username = pqTokenProvider.getUsernameFromToken(jwt);
-                            logger.debug("Validated PQ JWT for user: " + username);
-                        }
-                    } catch (Exception e) {
-                        logger.debug("PQ JWT validation failed, trying standard JWT: " + e.getMessage());
+            if (sessionId != null) {
+                // PQ session: one HMAC per request under the ML-KEM-derived key
+                try {
+                    VerifiedToken session = sessionRequestVerifier.verify(sessionId,
+                            request.getHeader(SESSION_TIMESTAMP_HEADER),
+                            request.getHeader(SESSION_SIGNATURE_HEADER),
+                            request.getMethod(),
+                            pathAndQuery(request));
+                    if (revocationList.isRevoked(session)) {
+                        tokenRejections.logRejected(logger, TokenVerificationException.Reason.REVOKED,
+                                "session of user " + session.subject() + " is revoked");
+                    } else {
+                        authenticate(AuthenticatedUser.from(session), request);
                     }
+                } catch (TokenVerificationException e) {
+                    tokenRejections.logRejected(logger, e.getReason(), "session request: " + e.getMessage());
                 }
-
-                // Fallback to standard JWT
-                if (!isValid) {
-                    try {
-                        if (standardTokenProvider.validateToken(jwt)) {
-                            username = standardTokenProvider.getUsernameFromToken(jwt);
-                            logger.debug("Validated standard JWT for user: " + username);
-                            isValid = true;
-                        }
-                    } catch (Exception e) {
-                        logger.debug("Standard JWT validation failed: " + e.getMessage());
+            } else if (StringUtils.hasText(jwt)) {
+                // One verification and one claims parse per request, dispatched on the
+                // token's alg header; the resulting principal carries everything
+                // controllers need.
+                try {
+                    VerifiedToken token = tokenVerifier.verify(jwt);
+                    // Checked after the cache: a token can be revoked after it was first verified
+                    if (revocationList.isRevoked(token)) {
+                        tokenRejections.logRejected(logger, TokenVerificationException.Reason.REVOKED,
+                                "JWT of user " + token.subject() + " is revoked");
+                    } else if (token.subject() != null) {
+                        AuthenticatedUser user = AuthenticatedUser.from(token);
+                        logger.debug("Validated " + token.algorithm() + " JWT for user: " + user.username());
+                        authenticate(user, request);
                     }
-                }
-
-                if (isValid && username != null) {
-                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                            username, null, new ArrayList<>());
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                } catch (TokenVerificationException e) {
+                    tokenRejections.logRejected(logger, e.getReason(), e.getMessage());
                 }
             }
         } catch (Exception ex) {
@@ -79,6 +90,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private void authenticate(AuthenticatedUser user, HttpServletRequest request) {
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                user, null, user.authorities());
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    private String getSessionIdFromRequest(HttpServletRequest request) {
+        String authorization = request.getHeader("Authorization");
+        if (StringUtils.hasText(authorization) && authorization.startsWith(SESSION_SCHEME)) {
+            return authorization.substring(SESSION_SCHEME.length()).trim();
+        }
+        return null;
+    }
+
+    /** Path and query as the client signed them, before any servlet decoding. */
+    private static String pathAndQuery(HttpServletRequest request) {
+        String query = request.getQueryString();
+        return query == null ? request.getRequestURI() : request.getRequestURI() + '?' + query;
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -1,170 +1,173 @@
 package com.banking.transaction.security;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.banking.security.crypto.ThreadLocalKeyFactories;
+import com.banking.security.jwt.KeyIds;
+import com.banking.security.jwt.PublicKeyResolver;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
-import java.nio.charset.StandardCharsets;
-import java.security.KeyFactory;
 import java.security.PublicKey;
-import java.security.Signature;
+import java.security.Security;
 import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 /**
- * PQ JWT Token Provider for validation only.
- * Fetches the auth service's public key to verify ML-DSA-65 signed JWTs.
+ * Source of the auth service's ML-DSA public keys for PQ JWT verification,
+ * for each parameter set in jwt.pq.accepted-algorithms.
+ * The published key set (active, next and previous keys by kid) is fetched at
+ * startup and refreshed in the background, so request threads only read an
+ * immutable map and never block on HTTP. Because auth-service publishes the
+ * next key before it signs with it, a rotation is picked up by the regular
+ * refresh; an unknown kid additionally triggers an early, rate-limited refresh.
+ * Verification itself is done by the shared {@code MlDsaJwtVerifier}. Nothing
+ * is fetched unless jwt.use-post-quantum is set.
  */
+@Slf4j
 @Component
 public class PQJwtTokenProvider {
 
-    @Value("${auth-service.url:http://localhost:8083/auth}")
-    private String authServiceUrl;
+    /**
+     * Snapshot of the fetched key set; replaced wholesale on refresh.
+     */
+    private record KeySet(Map<String, PublicKey> keysById, Map<String, String> activeKidByAlgorithm) {
+        static final KeySet EMPTY = new KeySet(Map.of(), Map.of());
+    }
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
-    private PublicKey cachedPublicKey = null;
+    private final boolean enabled;
+    private final Set<String> acceptedAlgorithms;
+    private final String keySetUrl;
+    private final long minRefreshIntervalMs;
+    private final RestTemplate restTemplate;
+    private final AtomicBoolean refreshInFlight = new AtomicBoolean();
+
+    private volatile KeySet keySet = KeySet.EMPTY;
+    private volatile long lastRefreshStartedAt;
+
+    public PQJwtTokenProvider(@Value("${jwt.use-post-quantum:false}") boolean enabled,
+            @Value("${jwt.pq.accepted-algorithms:ML-DSA-65}") List<String> acceptedAlgorithms,
+            @Value("${auth-service.url:http://localhost:8083/auth}") String authServiceUrl,
+            @Value("${auth-service.keys.min-refresh-interval-ms:30000}") long minRefreshIntervalMs,
+            RestTemplateBuilder restTemplateBuilder) {
+        this.enabled = enabled;
+        this.acceptedAlgorithms = acceptedAlgorithms.stream()
+                .map(String::trim)
+                .filter(algorithm -> !algorithm.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        this.keySetUrl = authServiceUrl + "/api/crypto/keys";
+        this.minRefreshIntervalMs = minRefreshIntervalMs;
+        this.restTemplate = restTemplateBuilder
+                .setConnectTimeout(Duration.ofSeconds(5))
+                .setReadTimeout(Duration.ofSeconds(5))
+                .build();
+    }
 
     /**
-     * Extract username from PQ-signed JWT token
+     * Prefetch before the service takes traffic. A failure is not fatal: PQ
+     * tokens are rejected until the scheduled refresh succeeds.
      */
-    public String getUsernameFromToken(String token) {
-        try {
-            Map<String, Object> payload = parseToken(token);
-            return (String) payload.get("sub");
-        } catch (Exception e) {
-            throw new RuntimeException("Error extracting username from PQ JWT", e);
+    @PostConstruct
+    public void prefetch() {
+        if (Security.getProvider("BC") == null) {
+            Security.addProvider(new org.bouncycastle.jce.provider.BouncyCastleProvider());
         }
+        refresh();
+    }
+
+    public Set<String> acceptedAlgorithms() {
+        return Collections.unmodifiableSet(acceptedAlgorithms);
     }
 
     /**
-     * Validate PQ-signed JWT token
+     * Key lookup for one parameter set. Tokens without a kid (issued before key
+     * ids were introduced) resolve to that set's active key. Resolves to null if
+     * the kid is not in the current key set or belongs to another parameter set.
      */
-    public boolean validateToken(String authToken) {
-        try {
-            String[] parts = authToken.split("\\.");
-            if (parts.length != 3) {
-                return false;
-            }
-
-            // Parse header to check algorithm
-            String headerJson = new String(base64UrlDecode(parts[0]), StandardCharsets.UTF_8);
-            @SuppressWarnings("unchecked")
-            Map<String, Object> header = objectMapper.readValue(headerJson, Map.class);
-            String alg = (String) header.get("alg");
-
-            if (!"ML-DSA-65".equals(alg)) {
-                System.err.println("Not a PQ JWT, algorithm: " + alg);
-                return false;
+    public PublicKeyResolver resolverFor(String algorithm) {
+        return keyId -> {
+            KeySet current = keySet;
+            String kid = keyId != null ? keyId : current.activeKidByAlgorithm().get(algorithm);
+            PublicKey key = kid == null ? null : current.keysById().get(kid);
+            if (key == null) {
+                refreshSoon();
+                return null;
             }
-
-            String signingInput = parts[0] + "." + parts[1];
-            byte[] signatureBytes = base64UrlDecode(parts[2]);
-
-            // Get or fetch public key from auth service
-            PublicKey publicKey = getAuthServicePublicKey();
-
-            // Verify signature with ML-DSA-65
-            Signature signature = Signature.getInstance("ML-DSA-65", "BCPQC");
-            signature.initVerify(publicKey);
-            signature.update(signingInput.getBytes(StandardCharsets.UTF_8));
-
-            if (!signature.verify(signatureBytes)) {
-                System.err.println("Invalid PQ JWT signature");
-                return false;
-            }
-
-            // Check expiration
-            Map<String, Object> payload = parsePayload(parts[1]);
-            Number exp = (Number) payload.get("exp");
-            if (exp != null) {
-                long expirationTime = exp.longValue() * 1000; // Convert to milliseconds
-                if (System.currentTimeMillis() > expirationTime) {
-                    System.err.println("Expired PQ JWT token");
-                    return false;
-                }
-            }
-
-            return true;
-        } catch (Exception ex) {
-            System.err.println("Error validating PQ JWT: " + ex.getMessage());
-            ex.printStackTrace();
-            return false;
-        }
+            return algorithm.equals(key.getAlgorithm()) ? key : null;
+        };
     }
 
-    /**
-     * Get auth service's public key
-     * In production, this should be fetched via a secure endpoint or configured
-     * statically
-     */
-    private PublicKey getAuthServicePublicKey() throws Exception {
-        if (cachedPublicKey != null) {
-            return cachedPublicKey;
+    @Scheduled(fixedDelayString = "${auth-service.keys.refresh-interval-ms:300000}",
+            initialDelayString = "${auth-service.keys.refresh-interval-ms:300000}")
+    public void refresh() {
+        if (!enabled || !refreshInFlight.compareAndSet(false, true)) {
+            return;
         }
-
-        // For now, we'll generate keys on both sides (not ideal for production)
-        // In production, transaction service should fetch public key from auth service
-        // or share it via configuration/key management service
-
-        // Generate same keys as auth service (temporary solution)
-        // This works only if both services start at same time with same seed
-        // Better approach: Store public key in shared config or fetch via API
-
-        KeyFactory kf = KeyFactory.getInstance("ML-DSA-65", "BCPQC");
-
-        // Fetch public key from auth service
+        lastRefreshStartedAt = System.currentTimeMillis();
         try {
-            RestTemplate restTemplate = new RestTemplate();
-            String url = authServiceUrl + "/api/crypto/server-dsa-public-key";
-
-            @SuppressWarnings("unchecked")
-            Map<String, String> response = restTemplate.getForObject(url, Map.class);
-
-            if (response != null && response.containsKey("publicKey")) {
-                String publicKeyBase64 = response.get("publicKey");
-                byte[] publicKeyBytes = Base64.getDecoder().decode(publicKeyBase64);
-
-                cachedPublicKey = kf.generatePublic(new X509EncodedKeySpec(publicKeyBytes));
-
-                System.out.println("Successfully fetched ML-DSA-65 public key from auth service");
-                return cachedPublicKey;
+            KeySet fetched = fetchKeySet();
+            if (!fetched.keysById().isEmpty()) {
+                if (!fetched.keysById().keySet().equals(keySet.keysById().keySet())) {
+                    log.info("Auth-service key set updated: active kids {}, {} keys",
+                            fetched.activeKidByAlgorithm(), fetched.keysById().size());
+                }
+                keySet = fetched;
             }
         } catch (Exception e) {
-            System.err.println("Error fetching public key from auth service: " + e.getMessage());
-            throw new RuntimeException("Cannot verify PQ JWTs without auth service public key", e);
+            // Keep serving the last known keys
+            log.warn("Could not refresh auth-service key set from {}: {}", keySetUrl, e.getMessage());
+        } finally {
+            refreshInFlight.set(false);
         }
-
-        throw new RuntimeException("Failed to obtain public key from auth service");
     }
 
-    /**
-     * Parse and validate token, return payload
-     */
-    private Map<String, Object> parseToken(String token) throws Exception {
-        if (!validateToken(token)) {
-            throw new RuntimeException("Invalid or expired token");
+    private void refreshSoon() {
+        if (System.currentTimeMillis() - lastRefreshStartedAt >= minRefreshIntervalMs && !refreshInFlight.get()) {
+            CompletableFuture.runAsync(this::refresh);
         }
-
-        String[] parts = token.split("\\.");
-        return parsePayload(parts[1]);
     }
 
-    /**
-     * Parse payload from base64URL encoded string
-     */
     @SuppressWarnings("unchecked")
-    private Map<String, Object> parsePayload(String encodedPayload) throws Exception {
-        byte[] payloadBytes = base64UrlDecode(encodedPayload);
-        String payloadJson = new String(payloadBytes, StandardCharsets.UTF_8);
-        return objectMapper.readValue(payloadJson, Map.class);
-    }
+    private KeySet fetchKeySet() throws Exception {
+        Map<String, Object> response = restTemplate.getForObject(keySetUrl, Map.class);
+        if (response == null || !(response.get("keys") instanceof List<?> entries)) {
+            throw new IllegalStateException("key set response has no keys");
+        }
 
-    /**
-     * Base64URL decode
-     */
-    private byte[] base64UrlDecode(String encoded) {
-        return Base64.getUrlDecoder().decode(encoded);
+        Map<String, PublicKey> keysById = new HashMap<>();
+        Map<String, String> activeKidByAlgorithm = new HashMap<>();
+        for (Object entry : entries) {
+            Map<String, Object> key = (Map<String, Object>) entry;
+            String algorithm = (String) key.get("alg");
+            if (!acceptedAlgorithms.contains(algorithm)) {
+                continue;
+            }
+            byte[] encoded = Base64.getDecoder().decode((String) key.get("publicKey"));
+            PublicKey publicKey = ThreadLocalKeyFactories.get(algorithm, "BC")
+                    .generatePublic(new X509EncodedKeySpec(encoded));
+            String kid = KeyIds.thumbprint(publicKey);
+            if (!kid.equals(key.get("kid"))) {
+                log.warn("Ignoring auth-service key whose kid {} does not match its thumbprint", key.get("kid"));
+                continue;
+            }
+            keysById.put(kid, publicKey);
+            if ("active".equals(key.get("status"))) {
+                activeKidByAlgorithm.put(algorithm, kid);
+            }
+        }
+        return new KeySet(Map.copyOf(keysById), Map.copyOf(activeKidByAlgorithm));
     }
 }
@@ -0,0 +1,66 @@
+package com.banking.transaction.security;
+
+import com.banking.security.internal.InternalTokens;
+import com.banking.security.revocation.RevocationDelta;
+import com.banking.security.revocation.RevocationList;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+/**
+ * Keeps the local {@link RevocationList} in step with auth-service by
+ * polling its revocation log from the last seen cursor. If auth-service is
+ * unreachable the last known list stays in force. Each poll authenticates
+ * with an internal token minted for this service (role SERVICE).
+ */
+@Slf4j
+@Component
+public class RevocationSync {
+
+    private static final String AUTH_SERVICE_AUDIENCE = "auth-service";
+
+    private final RevocationList revocationList;
+    private final InternalTokens internalTokens;
+    private final String serviceName;
+    private final String revocationsUrl;
+    private final RestTemplate restTemplate;
+
+    public RevocationSync(RevocationList revocationList, InternalTokens internalTokens,
+            @Value("${spring.application.name}") String serviceName,
+            @Value("${auth-service.url:http://localhost:8083/auth}") String authServiceUrl,
+            RestTemplateBuilder restTemplateBuilder) {
+        this.revocationList = revocationList;
+        this.internalTokens = internalTokens;
+        this.serviceName = serviceName;
+        this.revocationsUrl = authServiceUrl + "/api/auth/revocations?since={since}";
+        this.restTemplate = restTemplateBuilder
+                .setConnectTimeout(Duration.ofSeconds(5))
+                .setReadTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${auth-service.revocations.refresh-interval-ms:5000}",
+            initialDelayString = "${auth-service.revocations.refresh-interval-ms:5000}")
+    public void refresh() {
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.AUTHORIZATION,
+                    "Internal " + internalTokens.mintForService(serviceName, AUTH_SERVICE_AUDIENCE));
+            HttpEntity<Void> request = new HttpEntity<>(headers);
+            revocationList.pull(since -> restTemplate.exchange(revocationsUrl, HttpMethod.GET, request,
+                    RevocationDelta.class, since).getBody());
+        } catch (Exception e) {
+            log.warn("Could not refresh token revocations from auth-service: {}", e.getMessage());
+        }
+    }
+}